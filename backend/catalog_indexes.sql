@@ -0,0 +1,42 @@
+-- Normalized filter columns and composite indexes for catalog listings.
+-- Run once before starting a build that maps services.category_key / services.city_key
+-- (ddl-auto=validate will refuse to start without them).
+
+-- 1. Normalized keys for exact category / city filters
+ALTER TABLE services ADD COLUMN IF NOT EXISTS category_key VARCHAR(50);
+ALTER TABLE services ADD COLUMN IF NOT EXISTS city_key VARCHAR(100);
+
+UPDATE services
+SET category_key = LOWER(TRIM(category)),
+    city_key = LOWER(TRIM(city))
+WHERE category_key IS DISTINCT FROM LOWER(TRIM(category))
+   OR city_key IS DISTINCT FROM LOWER(TRIM(city));
+
+-- 2. Composite indexes matching the common filter shapes, in the default sort order
+--    (average_rating DESC, id DESC) so pages and keyset cursors read rows in index order
+CREATE INDEX IF NOT EXISTS idx_service_available_rating
+    ON services (is_available, average_rating DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_service_available_price
+    ON services (is_available, price, id);
+CREATE INDEX IF NOT EXISTS idx_service_category_key
+    ON services (category_key, is_available, average_rating DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_service_city_key
+    ON services (city_key, is_available, average_rating DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_service_category_city_key
+    ON services (category_key, city_key, is_available, average_rating DESC, id DESC);
+
+-- 3. Optional: substring matches on location (LOWER(address) LIKE '%..%') need a trigram index
+-- CREATE EXTENSION IF NOT EXISTS pg_trgm;
+-- CREATE INDEX IF NOT EXISTS idx_service_address_trgm ON services USING gin (LOWER(address) gin_trgm_ops);
+
+ANALYZE services;
+
+-- Plan checks: each should show an Index Scan on the named index, not a Seq Scan + Sort
+-- EXPLAIN ANALYZE SELECT * FROM services WHERE category_key = 'plumbing' AND is_available = true
+--     ORDER BY average_rating DESC, id DESC LIMIT 20;                        -- idx_service_category_key
+-- EXPLAIN ANALYZE SELECT * FROM services WHERE city_key = 'mumbai' AND is_available = true
+--     ORDER BY average_rating DESC, id DESC LIMIT 20;                        -- idx_service_city_key
+-- EXPLAIN ANALYZE SELECT * FROM services WHERE category_key = 'plumbing' AND city_key = 'mumbai'
+--     AND is_available = true ORDER BY average_rating DESC, id DESC LIMIT 20; -- idx_service_category_city_key
+-- EXPLAIN ANALYZE SELECT * FROM services WHERE is_available = true
+--     ORDER BY average_rating DESC, id DESC LIMIT 20;                        -- idx_service_available_rating
@@ -0,0 +1,21 @@
+-- Catalog change feed (GET /services/changes).
+-- Run before starting a build that maps the service_tombstones table.
+
+-- 1. Every service needs a change timestamp; rows written before auditing get their creation time
+UPDATE services SET updated_at = created_at WHERE updated_at IS NULL;
+
+-- 2. Feed order is (updated_at, id)
+CREATE INDEX IF NOT EXISTS idx_service_updated ON services (updated_at, id);
+
+-- 3. Tombstones for deleted services
+CREATE TABLE IF NOT EXISTS service_tombstones (
+    id BIGSERIAL PRIMARY KEY,
+    service_id BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_tombstone_deleted ON service_tombstones (deleted_at, service_id);
+
+-- Plan check: Index Scan using idx_service_updated, no Sort node
+-- EXPLAIN ANALYZE SELECT * FROM services
+--     WHERE (updated_at > '2026-01-01' OR (updated_at = '2026-01-01' AND id > 0)) AND updated_at <= NOW()
+--     ORDER BY updated_at, id LIMIT 501;
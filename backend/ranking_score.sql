@@ -0,0 +1,48 @@
+-- Persisted ranking score for the default catalog ordering (see RankingScore.java).
+-- Run after catalog_indexes.sql and before starting a build that maps services.ranking_score.
+
+-- 1. Score inputs and the score itself
+ALTER TABLE services ADD COLUMN IF NOT EXISTS total_bookings INTEGER DEFAULT 0;
+ALTER TABLE services ADD COLUMN IF NOT EXISTS last_booked_at TIMESTAMP;
+ALTER TABLE services ADD COLUMN IF NOT EXISTS ranking_score NUMERIC(7, 4) DEFAULT 0;
+
+UPDATE services s
+SET total_bookings = b.bookings,
+    last_booked_at = b.last_booked_at
+FROM (SELECT service_id, COUNT(*) AS bookings, MAX(created_at) AS last_booked_at
+      FROM bookings
+      WHERE status <> 'CANCELLED'
+      GROUP BY service_id) b
+WHERE b.service_id = s.id;
+
+-- 2. Backfill with the same formula: Bayesian rating (prior 3.5 over 10 reviews)
+--    + up to 0.25 for booking volume + up to 0.1 for bookings in the last 30 days
+UPDATE services
+SET ranking_score = ROUND(CAST(
+        (10 * 3.5 + COALESCE(total_reviews, 0) * COALESCE(average_rating, 0)) / (10 + COALESCE(total_reviews, 0))
+        + 0.25 * LEAST(1, LN(1 + COALESCE(total_bookings, 0)) / LN(101))
+        + CASE WHEN last_booked_at IS NULL THEN 0
+               ELSE 0.1 * GREATEST(0, 1 - GREATEST(0, EXTRACT(EPOCH FROM (NOW() - last_booked_at)) / 86400) / 30)
+          END
+    AS NUMERIC), 4);
+
+-- 3. Top-N catalog pages become an index range scan in score order
+CREATE INDEX IF NOT EXISTS idx_service_available_score
+    ON services (is_available, ranking_score DESC, id DESC);
+
+-- The category / city composites now follow the default score ordering
+DROP INDEX IF EXISTS idx_service_category_key;
+DROP INDEX IF EXISTS idx_service_city_key;
+DROP INDEX IF EXISTS idx_service_category_city_key;
+CREATE INDEX idx_service_category_key
+    ON services (category_key, is_available, ranking_score DESC, id DESC);
+CREATE INDEX idx_service_city_key
+    ON services (city_key, is_available, ranking_score DESC, id DESC);
+CREATE INDEX idx_service_category_city_key
+    ON services (category_key, city_key, is_available, ranking_score DESC, id DESC);
+
+ANALYZE services;
+
+-- Plan check: Index Scan using idx_service_available_score, no Sort node
+-- EXPLAIN ANALYZE SELECT * FROM services WHERE is_available = true
+--     ORDER BY ranking_score DESC, id DESC LIMIT 20;
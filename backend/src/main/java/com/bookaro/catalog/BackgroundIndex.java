@@ -0,0 +1,18 @@
+package com.bookaro.catalog;
+
+/**
+ * Catalog-derived index that is built and updated off the request path, so it can lag
+ * behind the catalog version or still be empty after startup
+ */
+public interface BackgroundIndex {
+
+    /**
+     * Whether the first build has finished
+     */
+    boolean isReady();
+
+    /**
+     * Incremented after every build or applied update, for use in HTTP validators
+     */
+    long generation();
+}
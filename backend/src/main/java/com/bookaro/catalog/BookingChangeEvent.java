@@ -0,0 +1,46 @@
+package com.bookaro.catalog;
+
+import com.bookaro.model.Booking.BookingStatus;
+
+/**
+ * Application event published whenever a Booking row is created, updated or removed
+ */
+public class BookingChangeEvent {
+
+    private final Long bookingId;
+    private final Long serviceId;
+    private final Long userId;
+    private final BookingStatus status;
+    private final boolean created;
+
+    public BookingChangeEvent(Long bookingId, Long serviceId, Long userId, BookingStatus status, boolean created) {
+        this.bookingId = bookingId;
+        this.serviceId = serviceId;
+        this.userId = userId;
+        this.status = status;
+        this.created = created;
+    }
+
+    public Long getBookingId() {
+        return bookingId;
+    }
+
+    public Long getServiceId() {
+        return serviceId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public BookingStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Whether the booking row was just inserted rather than updated or removed
+     */
+    public boolean isCreated() {
+        return created;
+    }
+}
@@ -0,0 +1,38 @@
+package com.bookaro.catalog;
+
+import com.bookaro.model.Booking;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that turns Booking writes into BookingChangeEvents
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onCreate(Booking booking) {
+        publish(booking, true);
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onWrite(Booking booking) {
+        publish(booking, false);
+    }
+
+    private void publish(Booking booking, boolean created) {
+        if (booking.getService() != null) {
+            Long userId = booking.getUser() != null ? booking.getUser().getId() : null;
+            eventPublisher.publishEvent(new BookingChangeEvent(booking.getId(), booking.getService().getId(),
+                    userId, booking.getStatus(), created));
+        }
+    }
+}
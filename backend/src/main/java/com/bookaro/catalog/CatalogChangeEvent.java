@@ -0,0 +1,43 @@
+package com.bookaro.catalog;
+
+/**
+ * Application event published whenever a Service row is created, updated or removed.
+ * Consumers keep their in-memory catalog structures in sync from these events.
+ */
+public class CatalogChangeEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Long serviceId;
+    private final ChangeType changeType;
+    private final boolean lookupChanged;
+
+    public CatalogChangeEvent(Long serviceId, ChangeType changeType) {
+        this(serviceId, changeType, true);
+    }
+
+    public CatalogChangeEvent(Long serviceId, ChangeType changeType, boolean lookupChanged) {
+        this.serviceId = serviceId;
+        this.changeType = changeType;
+        this.lookupChanged = lookupChanged;
+    }
+
+    public Long getServiceId() {
+        return serviceId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    /**
+     * Whether the change can affect the category, city or location lookup lists
+     */
+    public boolean isLookupChanged() {
+        return lookupChanged;
+    }
+}
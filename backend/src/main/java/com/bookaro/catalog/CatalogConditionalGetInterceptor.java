@@ -0,0 +1,123 @@
+package com.bookaro.catalog;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Conditional GET for the public catalog endpoints.
+ * Every GET under /services is validated against the catalog version before the
+ * controller runs, so a matching If-None-Match gets a 304 without any repository call.
+ * Fresh responses carry the ETag and a short public Cache-Control so browsers and a
+ * reverse proxy can absorb repeat browse traffic.
+ * <p>
+ * Endpoints answered from a background index also key the ETag on its build generation,
+ * since the index catches up after the version moves, and are not cached at all before
+ * its first build. Results ordered by rankingScore key it on the ranking version instead,
+ * which bookings move without changing the catalog version.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogConditionalGetInterceptor implements HandlerInterceptor {
+
+    // One URL may be served as JSON, Smile or CBOR, and gzipped on SerializedResponseCacheFilter hits
+    static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    private static final Set<String> LOOKUP_RESOURCES = Set.of("categories", "cities", "locations");
+
+    private final CatalogVersion catalogVersion;
+    private final CatalogEngine catalogEngine;
+    private final SearchIndex searchIndex;
+    private final TypeaheadIndex typeaheadIndex;
+    private final ClusterIndex clusterIndex;
+    private final SimilarityIndex similarityIndex;
+
+    @Value("${catalog.http.max-age-seconds:30}")
+    private long maxAgeSeconds;
+
+    @Value("${catalog.http.stale-while-revalidate-seconds:60}")
+    private long staleWhileRevalidateSeconds;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+        // Same Vary as response-cache hits, which skip this interceptor, so shared caches key consistently
+        response.addHeader(HttpHeaders.VARY, VARY);
+        // While the in-memory catalog catches up with a write, responses may predate the version;
+        // before an index's first build its endpoint answers with an empty or fallback result
+        boolean rankingSorted = isRankingSorted(request);
+        BackgroundIndex index = rankingSorted ? null : backingIndex(resource(request));
+        if (!catalogEngine.isCurrent() || (index != null && !index.isReady())
+                || (rankingSorted && !catalogEngine.isRankingCurrent())) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds))
+                .cachePublic()
+                .staleWhileRevalidate(Duration.ofSeconds(staleWhileRevalidateSeconds))
+                .getHeaderValue());
+
+        // checkNotModified also sets the ETag header on fresh responses
+        return !new ServletWebRequest(request, response).checkNotModified(currentEtag(request));
+    }
+
+    private String currentEtag(HttpServletRequest request) {
+        String resource = resource(request);
+        // Lookup lists have their own, less volatile version
+        if (LOOKUP_RESOURCES.contains(resource)) {
+            return catalogVersion.etag(resource, catalogVersion.currentLookup());
+        }
+        if (isRankingSorted(request)) {
+            String tagged = "services".equals(resource) ? "catalog" : resource;
+            return catalogVersion.etag(tagged, catalogVersion.current(), catalogVersion.currentRanking());
+        }
+        BackgroundIndex index = backingIndex(resource);
+        if (index != null) {
+            return catalogVersion.etag(resource, catalogVersion.current(), index.generation());
+        }
+        return catalogVersion.etag("catalog", catalogVersion.current());
+    }
+
+    /**
+     * Whether the response is ordered by rankingScore: listings by default, and searches
+     * without a keyword, which are not answered by SearchIndex
+     */
+    static boolean isRankingSorted(HttpServletRequest request) {
+        return switch (resource(request)) {
+            case "services" -> {
+                String sortBy = request.getParameter("sortBy");
+                yield sortBy == null || "rankingScore".equals(sortBy);
+            }
+            case "search" -> !CatalogQuery.hasText(request.getParameter("keyword"));
+            default -> false;
+        };
+    }
+
+    // Last path segment, e.g. "suggest" for /services/suggest or "similar" for /services/7/similar
+    private static String resource(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    private BackgroundIndex backingIndex(String resource) {
+        return switch (resource) {
+            case "search" -> searchIndex;
+            case "suggest" -> typeaheadIndex;
+            case "clusters" -> clusterIndex;
+            case "similar" -> similarityIndex;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.bookaro.catalog;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived cache of listing totals keyed by the normalized filter set.
+ * Lets paged database listings skip their COUNT(*) query; cleared on every catalog change.
+ */
+@Component
+public class CatalogCountCache {
+
+    private static final long TTL_MILLIS = 30_000;
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final Map<String, Entry> counts = new ConcurrentHashMap<>();
+
+    public Long get(CatalogQuery query) {
+        Entry entry = counts.get(query.filterKey());
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() < System.currentTimeMillis()) {
+            counts.remove(query.filterKey(), entry);
+            return null;
+        }
+        return entry.count();
+    }
+
+    public void put(CatalogQuery query, long count) {
+        if (counts.size() >= MAX_ENTRIES) {
+            counts.clear();
+        }
+        counts.put(query.filterKey(), new Entry(count, System.currentTimeMillis() + TTL_MILLIS));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        counts.clear();
+    }
+
+    private record Entry(long count, long expiresAt) {
+    }
+}
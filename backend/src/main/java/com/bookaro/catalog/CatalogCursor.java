@@ -0,0 +1,92 @@
+package com.bookaro.catalog;
+
+import com.bookaro.dto.ServiceDto;
+import com.bookaro.exception.BadRequestException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for catalog listings.
+ * Encodes the sort field, direction and the (sortKey, id) of the last service returned,
+ * so the next page can be fetched with a seek predicate instead of an offset.
+ */
+public final class CatalogCursor {
+
+    private static final String VERSION = "v1";
+
+    private final String sortBy;
+    private final boolean descending;
+    private final BigDecimal sortValue;
+    private final Long id;
+
+    private CatalogCursor(String sortBy, boolean descending, BigDecimal sortValue, Long id) {
+        this.sortBy = sortBy;
+        this.descending = descending;
+        this.sortValue = sortValue;
+        this.id = id;
+    }
+
+    public static boolean supportsSort(String sortBy) {
+        return "rankingScore".equals(sortBy) || "averageRating".equals(sortBy) || "price".equals(sortBy);
+    }
+
+    /**
+     * Cursor positioned right after the given service
+     */
+    public static CatalogCursor after(ServiceDto service, String sortBy, boolean descending) {
+        return new CatalogCursor(sortBy, descending, sortValue(service, sortBy), service.getId());
+    }
+
+    public static BigDecimal sortValue(ServiceDto service, String sortBy) {
+        BigDecimal value = switch (sortBy) {
+            case "price" -> service.getPrice();
+            case "rankingScore" -> service.getRankingScore();
+            default -> service.getAverageRating();
+        };
+        return value != null ? value : BigDecimal.ZERO;
+    }
+
+    public static CatalogCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(":");
+            if (parts.length != 5 || !VERSION.equals(parts[0]) || !supportsSort(parts[1])) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new CatalogCursor(parts[1], "desc".equals(parts[2]), new BigDecimal(parts[3]), Long.valueOf(parts[4]));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(":", VERSION, sortBy, descending ? "desc" : "asc",
+                sortValue.toPlainString(), String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Whether this cursor was issued for the given sort
+     */
+    public boolean matches(CatalogQuery query) {
+        return sortBy.equals(query.getSortBy()) && descending == query.isDescending();
+    }
+
+    public String getSortBy() {
+        return sortBy;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public BigDecimal getSortValue() {
+        return sortValue;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,234 @@
+package com.bookaro.catalog;
+
+import com.bookaro.dto.FacetCountsDto;
+import com.bookaro.dto.NearbyServiceDto;
+import com.bookaro.dto.ServiceDto;
+import com.bookaro.repository.ServiceRepository;
+import com.bookaro.repository.ServiceSpecifications;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-process catalog engine that answers GET /services listings from a columnar
+ * snapshot of the available services instead of the database.
+ * The snapshot is rebuilt in the background whenever a Service row changes.
+ * <p>
+ * Every rebuild reloads the whole available catalog, also after vendor and review writes,
+ * because changes are not applied to the snapshot incrementally. Bursts coalesce into one
+ * rebuild, but under a steady stream of writes the engine rebuilds back to back: reads stay
+ * on the previous snapshot meanwhile, and each rebuild costs one full catalog query.
+ * <p>
+ * Booking-driven ranking score changes are the exception: they arrive as RankingChangeEvents
+ * and only re-sort the rankingScore order of the current snapshot, without a query.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogEngine {
+
+    private final ServiceRepository serviceRepository;
+    private final CatalogVersion catalogVersion;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    private volatile CatalogSnapshot snapshot;
+    private volatile long snapshotVersion = -1;
+    private volatile long snapshotRankingVersion = -1;
+
+    /**
+     * Filter, sort and page the catalog in memory.
+     * Empty when the snapshot is not built yet or the requested sort is not indexed,
+     * in which case callers fall back to the database.
+     */
+    public Optional<Page<ServiceDto>> search(CatalogQuery query) {
+        CatalogSnapshot current = snapshot;
+        if (current == null || !CatalogSnapshot.supportsSort(query.getSortBy())) {
+            return Optional.empty();
+        }
+        return Optional.of(current.page(query));
+    }
+
+    /**
+     * Count-free page of the catalog in memory; empty under the same conditions as search
+     */
+    public Optional<Slice<ServiceDto>> slice(CatalogQuery query) {
+        CatalogSnapshot current = snapshot;
+        if (current == null || !CatalogSnapshot.supportsSort(query.getSortBy())) {
+            return Optional.empty();
+        }
+        return Optional.of(current.slice(query));
+    }
+
+    /**
+     * Keyset page of the catalog in memory; empty under the same conditions as search
+     */
+    public Optional<CursorPage> scroll(CatalogQuery query, CatalogCursor after) {
+        CatalogSnapshot current = snapshot;
+        if (current == null || !CatalogSnapshot.supportsSort(query.getSortBy())) {
+            return Optional.empty();
+        }
+        return Optional.of(current.scroll(query, after));
+    }
+
+    /**
+     * Facet counts for the filter combination. Builds the snapshot on the calling thread
+     * if the background build has not finished yet rather than grouping in the database.
+     */
+    public FacetCountsDto facets(CatalogQuery query) {
+        CatalogSnapshot current = snapshot;
+        if (current == null) {
+            rebuild();
+            current = snapshot != null ? snapshot : CatalogSnapshot.of(List.of());
+        }
+        return current.facets(query);
+    }
+
+    /**
+     * Radius search over available services, nearest first.
+     * Answered from the snapshot's spatial grid; before the first snapshot is built it
+     * falls back to a bounding-box query and filters that result the same way.
+     */
+    public List<NearbyServiceDto> nearby(CatalogQuery filters, double lat, double lng, double radiusKm, int limit) {
+        CatalogSnapshot current = snapshot;
+        if (current == null) {
+            double dLat = GeoUtils.latDelta(radiusKm);
+            double dLng = GeoUtils.lngDelta(lat, radiusKm);
+            List<ServiceDto> candidates = serviceRepository.findDtos(
+                    ServiceSpecifications.withinBounds(lat - dLat, lat + dLat, lng - dLng, lng + dLng),
+                    Sort.unsorted());
+            current = CatalogSnapshot.of(candidates);
+        }
+        return current.nearby(filters, lat, lng, radiusKm, limit);
+    }
+
+    /**
+     * Services found in the snapshot, keyed by id. Empty while a rebuild is pending so callers
+     * never mix stale rows with fresh ones; ids that are missing or unavailable are left out.
+     */
+    public Map<Long, ServiceDto> findByIds(Collection<Long> ids) {
+        return isCurrent() ? findLatestByIds(ids) : Map.of();
+    }
+
+    /**
+     * Like findByIds, but answered from the latest snapshot even while a rebuild is pending,
+     * for approximate lists that must not fall back to the database
+     */
+    public Map<Long, ServiceDto> findLatestByIds(Collection<Long> ids) {
+        CatalogSnapshot current = snapshot;
+        if (current == null) {
+            return Map.of();
+        }
+        Map<Long, ServiceDto> found = new HashMap<>();
+        for (Long id : ids) {
+            ServiceDto service = current.get(id);
+            if (service != null) {
+                found.put(id, service);
+            }
+        }
+        return found;
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * Whether the snapshot reflects the current catalog version, i.e. no rebuild is pending
+     */
+    public boolean isCurrent() {
+        return snapshotVersion == catalogVersion.current();
+    }
+
+    /**
+     * Whether the snapshot is current and also reflects the latest ranking scores,
+     * for results ordered by rankingScore
+     */
+    public boolean isRankingCurrent() {
+        return isCurrent() && snapshotRankingVersion == catalogVersion.currentRanking();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduleRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        scheduleRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRelatedChange(CatalogRelatedChangeEvent event) {
+        // Also keeps the snapshot version in step with the catalog version for ETags
+        scheduleRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRankingChange(RankingChangeEvent event) {
+        // CatalogVersion has already counted this change, so the version read here covers it
+        long rankingVersion = catalogVersion.currentRanking();
+        rebuildExecutor.execute(() -> applyRankingScores(event.getRankingScores(), rankingVersion));
+    }
+
+    private void scheduleRebuild() {
+        // Coalesce bursts of changes (e.g. CSV imports) into a single rebuild
+        if (rebuildQueued.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                rebuildQueued.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    private synchronized void rebuild() {
+        try {
+            long start = System.nanoTime();
+            long version = catalogVersion.current();
+            long rankingVersion = catalogVersion.currentRanking();
+            List<ServiceDto> services = serviceRepository.findDtos(ServiceSpecifications.available(), Sort.unsorted());
+            snapshot = CatalogSnapshot.of(services);
+            snapshotVersion = version;
+            snapshotRankingVersion = Math.max(snapshotRankingVersion, rankingVersion);
+            log.debug("Catalog snapshot rebuilt with {} services in {} ms",
+                    services.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild catalog snapshot: {}", e.getMessage());
+        }
+    }
+
+    // Runs on the rebuild thread, so it is ordered with rebuilds queued before and after it
+    private synchronized void applyRankingScores(Map<Long, BigDecimal> rankingScores, long rankingVersion) {
+        if (snapshot != null) {
+            snapshot = snapshot.withRankingScores(rankingScores);
+        }
+        snapshotRankingVersion = Math.max(snapshotRankingVersion, rankingVersion);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,85 @@
+package com.bookaro.catalog;
+
+import com.bookaro.dto.FieldSelection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * Filter, sort and paging parameters of a catalog listing request
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class CatalogQuery {
+
+    private String category;
+    private String city;
+    private String location;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private BigDecimal minRating;
+    private int page;
+    private int size;
+    @Builder.Default
+    private String sortBy = "rankingScore";
+    @Builder.Default
+    private String sortDir = "desc";
+    // Response fields; only narrows the columns read on the database path
+    @Builder.Default
+    private FieldSelection fields = FieldSelection.ALL;
+
+    public boolean hasFilters() {
+        return minPrice != null || maxPrice != null || minRating != null
+                || hasText(category) || hasText(city) || hasText(location);
+    }
+
+    /**
+     * Ordered by rankingScore, which bookings move without a catalog write
+     */
+    public boolean isRankingSorted() {
+        return "rankingScore".equals(sortBy);
+    }
+
+    public boolean isDescending() {
+        return "desc".equalsIgnoreCase(sortDir);
+    }
+
+    /**
+     * Canonical form of the filter set (not sort or paging), so equivalent requests share cache entries
+     */
+    public String filterKey() {
+        return String.join("|",
+                normalize(category),
+                normalize(city),
+                normalize(location),
+                normalize(minPrice),
+                normalize(maxPrice),
+                normalize(minRating));
+    }
+
+    public Pageable toPageable() {
+        Sort sort = isDescending() ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        return PageRequest.of(page, size, sort);
+    }
+
+    private static String normalize(String value) {
+        return hasText(value) ? value.trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static String normalize(BigDecimal value) {
+        return value != null ? value.stripTrailingZeros().toPlainString() : "";
+    }
+
+    static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+}
@@ -0,0 +1,24 @@
+package com.bookaro.catalog;
+
+/**
+ * Application event published when an entity that feeds catalog responses, such as a
+ * Vendor or Review, is written. Service writes use CatalogChangeEvent instead.
+ */
+public class CatalogRelatedChangeEvent {
+
+    private final Class<?> entityType;
+    private final Long entityId;
+
+    public CatalogRelatedChangeEvent(Class<?> entityType, Long entityId) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+    }
+
+    public Class<?> getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+}
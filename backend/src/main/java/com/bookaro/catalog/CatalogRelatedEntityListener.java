@@ -0,0 +1,32 @@
+package com.bookaro.catalog;
+
+import com.bookaro.model.Review;
+import com.bookaro.model.Vendor;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener for Vendor and Review writes, which change catalog responses
+ * without touching a Service row
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogRelatedEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(Object entity) {
+        if (entity instanceof Vendor vendor) {
+            eventPublisher.publishEvent(new CatalogRelatedChangeEvent(Vendor.class, vendor.getId()));
+        } else if (entity instanceof Review review) {
+            eventPublisher.publishEvent(new CatalogRelatedChangeEvent(Review.class, review.getId()));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.bookaro.catalog;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of catalog listing and search results.
+ * Keys are the normalized request parameters plus the catalog version, so a catalog
+ * write makes every older entry unreachable and Caffeine's W-TinyLFU policy evicts them.
+ * Results ordered by rankingScore also carry the ranking version.
+ * Hit/miss counts are published as cache.* metrics under the name catalogResults.
+ */
+@Component
+public class CatalogResultCache {
+
+    private final Cache<String, Object> cache;
+    private final CatalogVersion catalogVersion;
+    private final CatalogEngine catalogEngine;
+
+    public CatalogResultCache(CatalogVersion catalogVersion,
+                              CatalogEngine catalogEngine,
+                              MeterRegistry meterRegistry,
+                              @Value("${catalog.result-cache.max-entries:10000}") long maxEntries) {
+        this.catalogVersion = catalogVersion;
+        this.catalogEngine = catalogEngine;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "catalogResults");
+    }
+
+    /**
+     * Cached result for the key at the current catalog version, computing it on a miss.
+     * Results are not cached while the in-memory catalog is still catching up with a write.
+     */
+    public <T> T get(String key, Supplier<T> loader) {
+        return get(key, false, loader);
+    }
+
+    /**
+     * Like get, for results that may be ordered by rankingScore when rankingSorted is set
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, boolean rankingSorted, Supplier<T> loader) {
+        long version = catalogVersion.current();
+        if (!rankingSorted) {
+            if (!catalogEngine.isCurrent()) {
+                return loader.get();
+            }
+            return (T) cache.get(version + "@" + key, k -> loader.get());
+        }
+        long rankingVersion = catalogVersion.currentRanking();
+        if (!catalogEngine.isRankingCurrent()) {
+            return loader.get();
+        }
+        return (T) cache.get(version + "." + rankingVersion + "@" + key, k -> loader.get());
+    }
+}
@@ -0,0 +1,467 @@
+package com.bookaro.catalog;
+
+import com.bookaro.dto.FacetCountsDto;
+import com.bookaro.dto.NearbyServiceDto;
+import com.bookaro.dto.ServiceDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable columnar view of all available services.
+ * Prices are held in paise, ratings in hundredths and ranking scores in ten-thousandths
+ * so filters and sorts compare primitives only;
+ * category, city and location are dictionary encoded with one bitmap per distinct value.
+ * <p>
+ * Ranking score updates replace only the rankingScore column and order. Rows returned in that
+ * order carry the new scores; every other result keeps the rows of the catalog version.
+ */
+final class CatalogSnapshot {
+
+    private static final int[] PRICE_BUCKET_EDGES = {0, 500, 1000, 2000, 5000};
+    private static final int[] RATING_THRESHOLDS_CENTI = {450, 400, 350, 300};
+
+    private final ServiceDto[] rows;
+    // Same rows with booking-driven ranking score updates applied, for the rankingScore order
+    private final ServiceDto[] rankedRows;
+    private final Map<Long, ServiceDto> rowsById;
+    private final long[] pricePaise;
+    private final short[] ratingCenti;
+    private final long[] scoreUnits;
+    private final int[] categoryIds;
+    private final int[] cityIds;
+    private final int[] locationIds;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final Dictionary categories;
+    private final Dictionary cities;
+    private final Dictionary locations;
+
+    // Row positions pre-sorted ascending by (column, id); descending pages walk them backwards
+    private final int[] byRating;
+    private final int[] byPrice;
+    private final int[] byScore;
+
+    private final GeoGrid geoGrid;
+
+    private CatalogSnapshot(List<ServiceDto> services) {
+        int size = services.size();
+        rows = services.toArray(new ServiceDto[0]);
+        rankedRows = rows;
+        rowsById = new HashMap<>(size * 2);
+        pricePaise = new long[size];
+        ratingCenti = new short[size];
+        scoreUnits = new long[size];
+        categoryIds = new int[size];
+        cityIds = new int[size];
+        locationIds = new int[size];
+        latitudes = new double[size];
+        longitudes = new double[size];
+        categories = new Dictionary(size);
+        cities = new Dictionary(size);
+        locations = new Dictionary(size);
+
+        for (int row = 0; row < size; row++) {
+            ServiceDto service = rows[row];
+            rowsById.put(service.getId(), service);
+            pricePaise[row] = toPaise(service.getPrice(), RoundingMode.HALF_UP);
+            ratingCenti[row] = (short) toCenti(service.getAverageRating(), RoundingMode.HALF_UP);
+            scoreUnits[row] = toScoreUnits(service.getRankingScore());
+            categoryIds[row] = categories.add(service.getCategory(), row);
+            cityIds[row] = cities.add(service.getCity(), row);
+            locationIds[row] = locations.add(service.getAddress(), row);
+            boolean located = GeoUtils.isValid(service.getLatitude(), service.getLongitude());
+            latitudes[row] = located ? service.getLatitude() : Double.NaN;
+            longitudes[row] = located ? service.getLongitude() : Double.NaN;
+        }
+
+        byRating = sortedRows(Comparator.comparingInt(row -> ratingCenti[row]));
+        byPrice = sortedRows(Comparator.comparingLong(row -> pricePaise[row]));
+        byScore = sortedRows(Comparator.comparingLong(row -> scoreUnits[row]));
+        geoGrid = new GeoGrid(latitudes, longitudes);
+    }
+
+    private CatalogSnapshot(CatalogSnapshot base, ServiceDto[] rankedRows, long[] scoreUnits) {
+        this.rows = base.rows;
+        this.rankedRows = rankedRows;
+        this.rowsById = base.rowsById;
+        this.pricePaise = base.pricePaise;
+        this.ratingCenti = base.ratingCenti;
+        this.scoreUnits = scoreUnits;
+        this.categoryIds = base.categoryIds;
+        this.cityIds = base.cityIds;
+        this.locationIds = base.locationIds;
+        this.latitudes = base.latitudes;
+        this.longitudes = base.longitudes;
+        this.categories = base.categories;
+        this.cities = base.cities;
+        this.locations = base.locations;
+        this.byRating = base.byRating;
+        this.byPrice = base.byPrice;
+        this.byScore = sortedRows(Comparator.comparingLong(row -> scoreUnits[row]));
+        this.geoGrid = base.geoGrid;
+    }
+
+    static CatalogSnapshot of(List<ServiceDto> services) {
+        return new CatalogSnapshot(services);
+    }
+
+    /**
+     * Copy with new ranking scores for the given service ids; ids not in the snapshot are ignored
+     */
+    CatalogSnapshot withRankingScores(Map<Long, BigDecimal> rankingScores) {
+        ServiceDto[] ranked = rankedRows.clone();
+        long[] units = scoreUnits.clone();
+        boolean changed = false;
+        for (int row = 0; row < rows.length; row++) {
+            BigDecimal score = rankingScores.get(rows[row].getId());
+            if (score != null && toScoreUnits(score) != units[row]) {
+                ranked[row] = ranked[row].toBuilder().rankingScore(score).build();
+                units[row] = toScoreUnits(score);
+                changed = true;
+            }
+        }
+        return changed ? new CatalogSnapshot(this, ranked, units) : this;
+    }
+
+    int size() {
+        return rows.length;
+    }
+
+    ServiceDto get(Long id) {
+        return rowsById.get(id);
+    }
+
+    static boolean supportsSort(String sortBy) {
+        return "rankingScore".equals(sortBy) || "averageRating".equals(sortBy) || "price".equals(sortBy);
+    }
+
+    /**
+     * Rows matching every supplied filter of the query
+     */
+    BitSet filter(CatalogQuery query) {
+        BitSet matches = new BitSet(rows.length);
+        matches.set(0, rows.length);
+
+        if (CatalogQuery.hasText(query.getCategory())) {
+            matches.and(categories.equalTo(query.getCategory()));
+        }
+        if (CatalogQuery.hasText(query.getCity())) {
+            matches.and(cities.equalTo(query.getCity()));
+        }
+        if (CatalogQuery.hasText(query.getLocation())) {
+            matches.and(locations.containing(query.getLocation()));
+        }
+
+        long minPrice = query.getMinPrice() != null ? toPaise(query.getMinPrice(), RoundingMode.CEILING) : Long.MIN_VALUE;
+        long maxPrice = query.getMaxPrice() != null ? toPaise(query.getMaxPrice(), RoundingMode.FLOOR) : Long.MAX_VALUE;
+        int minRating = query.getMinRating() != null ? toCenti(query.getMinRating(), RoundingMode.CEILING) : Integer.MIN_VALUE;
+
+        if (query.getMinPrice() != null || query.getMaxPrice() != null || query.getMinRating() != null) {
+            for (int row = matches.nextSetBit(0); row >= 0; row = matches.nextSetBit(row + 1)) {
+                if (pricePaise[row] < minPrice || pricePaise[row] > maxPrice || ratingCenti[row] < minRating) {
+                    matches.clear(row);
+                }
+            }
+        }
+        return matches;
+    }
+
+    Page<ServiceDto> page(CatalogQuery query) {
+        BitSet matches = filter(query);
+        List<ServiceDto> content = collect(query, matches, query.getSize());
+        return new PageImpl<>(content, query.toPageable(), matches.cardinality());
+    }
+
+    /**
+     * Page without a total: fetches one extra row to tell whether another page exists
+     */
+    Slice<ServiceDto> slice(CatalogQuery query) {
+        // Clamped first so the look-ahead row cannot overflow a huge requested size
+        int pageSize = Math.min(query.getSize(), rows.length);
+        List<ServiceDto> content = collect(query, filter(query), pageSize + 1);
+        boolean hasNext = content.size() > pageSize;
+        if (hasNext) {
+            content.remove(content.size() - 1);
+        }
+        return new SliceImpl<>(content, query.toPageable(), hasNext);
+    }
+
+    private List<ServiceDto> collect(CatalogQuery query, BitSet matches, int limit) {
+        int[] order = order(query.getSortBy());
+        ServiceDto[] source = source(query.getSortBy());
+        boolean descending = query.isDescending();
+
+        long offset = (long) query.getPage() * query.getSize();
+        List<ServiceDto> content = new ArrayList<>(Math.min(limit, rows.length));
+        long seen = 0;
+        for (int i = 0; i < order.length && content.size() < limit; i++) {
+            int row = order[descending ? order.length - 1 - i : i];
+            if (!matches.get(row)) {
+                continue;
+            }
+            if (seen++ >= offset) {
+                content.add(source[row]);
+            }
+        }
+        return content;
+    }
+
+    /**
+     * Facet counts for the query, each facet counted with all filters except its own
+     */
+    FacetCountsDto facets(CatalogQuery query) {
+        BitSet withoutPrice = filter(query.toBuilder().minPrice(null).maxPrice(null).build());
+        Map<String, Long> priceRanges = new LinkedHashMap<>();
+        for (int bucket = 0; bucket < PRICE_BUCKET_EDGES.length; bucket++) {
+            long from = PRICE_BUCKET_EDGES[bucket] * 100L;
+            long to = bucket + 1 < PRICE_BUCKET_EDGES.length ? PRICE_BUCKET_EDGES[bucket + 1] * 100L : Long.MAX_VALUE;
+            long count = 0;
+            for (int row = withoutPrice.nextSetBit(0); row >= 0; row = withoutPrice.nextSetBit(row + 1)) {
+                if (pricePaise[row] >= from && pricePaise[row] < to) {
+                    count++;
+                }
+            }
+            String label = to == Long.MAX_VALUE
+                    ? PRICE_BUCKET_EDGES[bucket] + "+"
+                    : PRICE_BUCKET_EDGES[bucket] + "-" + PRICE_BUCKET_EDGES[bucket + 1];
+            priceRanges.put(label, count);
+        }
+
+        BitSet withoutRating = filter(query.toBuilder().minRating(null).build());
+        Map<String, Long> ratings = new LinkedHashMap<>();
+        for (int threshold : RATING_THRESHOLDS_CENTI) {
+            long count = 0;
+            for (int row = withoutRating.nextSetBit(0); row >= 0; row = withoutRating.nextSetBit(row + 1)) {
+                if (ratingCenti[row] >= threshold) {
+                    count++;
+                }
+            }
+            ratings.put(BigDecimal.valueOf(threshold, 2).setScale(1, RoundingMode.DOWN) + "+", count);
+        }
+
+        return FacetCountsDto.builder()
+                .total((long) filter(query).cardinality())
+                .categories(countValues(filter(query.toBuilder().category(null).build()), categoryIds, categories))
+                .cities(countValues(filter(query.toBuilder().city(null).build()), cityIds, cities))
+                .priceRanges(priceRanges)
+                .ratings(ratings)
+                .build();
+    }
+
+    private static Map<String, Long> countValues(BitSet matches, int[] ids, Dictionary dictionary) {
+        long[] counts = new long[dictionary.size()];
+        for (int row = matches.nextSetBit(0); row >= 0; row = matches.nextSetBit(row + 1)) {
+            if (ids[row] >= 0) {
+                counts[ids[row]]++;
+            }
+        }
+        Map<String, Long> result = new LinkedHashMap<>();
+        IntStream.range(0, counts.length)
+                .filter(id -> counts[id] > 0)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingLong(id -> counts[id]).reversed()
+                        .thenComparing(dictionary::value))
+                .forEach(id -> result.put(dictionary.value(id), counts[id]));
+        return result;
+    }
+
+    /**
+     * Keyset page: the first page when after is null, otherwise the rows strictly
+     * following the cursor position in the requested sort order
+     */
+    CursorPage scroll(CatalogQuery query, CatalogCursor after) {
+        BitSet matches = filter(query);
+        String sortBy = query.getSortBy();
+        int[] order = order(sortBy);
+        ServiceDto[] source = source(sortBy);
+        boolean descending = query.isDescending();
+
+        int start = 0;
+        if (after != null) {
+            long key = switch (sortBy) {
+                case "price" -> toPaise(after.getSortValue(), RoundingMode.HALF_UP);
+                case "rankingScore" -> toScoreUnits(after.getSortValue());
+                default -> toCenti(after.getSortValue(), RoundingMode.HALF_UP);
+            };
+            // Ascending scans start after the cursor; descending scans walk down from just below it
+            int bound = lowerBound(order, sortBy, key, after.getId(), !descending);
+            start = descending ? order.length - bound : bound;
+        }
+
+        List<ServiceDto> content = new ArrayList<>(Math.min(query.getSize(), rows.length) + 1);
+        for (int i = start; i < order.length && content.size() <= query.getSize(); i++) {
+            int row = order[descending ? order.length - 1 - i : i];
+            if (matches.get(row)) {
+                content.add(source[row]);
+            }
+        }
+
+        String nextCursor = null;
+        if (content.size() > query.getSize()) {
+            content.remove(content.size() - 1);
+            ServiceDto last = content.get(content.size() - 1);
+            nextCursor = CatalogCursor.after(last, query.getSortBy(), descending).encode();
+        }
+        return new CursorPage(content, nextCursor);
+    }
+
+    /**
+     * Index of the first position in the ascending order whose (column, id) is greater
+     * than (key, id), or greater-or-equal when strictlyGreater is false
+     */
+    private int lowerBound(int[] order, String sortBy, long key, long id, boolean strictlyGreater) {
+        int low = 0;
+        int high = order.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int row = order[mid];
+            long value = sortKey(sortBy, row);
+            int cmp = value != key ? Long.compare(value, key) : Long.compare(rows[row].getId(), id);
+            if (cmp < 0 || (strictlyGreater && cmp == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Services within radiusKm of the point that match the query filters, nearest first
+     */
+    List<NearbyServiceDto> nearby(CatalogQuery query, double lat, double lng, double radiusKm, int limit) {
+        BitSet matches = filter(query);
+        List<NearbyServiceDto> result = new ArrayList<>();
+        for (GeoGrid.Neighbour neighbour : geoGrid.within(lat, lng, radiusKm, matches::get)) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(NearbyServiceDto.builder()
+                    .service(rows[neighbour.row()])
+                    .distanceKm(Math.round(neighbour.distanceKm() * 1000) / 1000.0)
+                    .build());
+        }
+        return result;
+    }
+
+    private int[] order(String sortBy) {
+        return switch (sortBy) {
+            case "price" -> byPrice;
+            case "rankingScore" -> byScore;
+            default -> byRating;
+        };
+    }
+
+    private ServiceDto[] source(String sortBy) {
+        return "rankingScore".equals(sortBy) ? rankedRows : rows;
+    }
+
+    private long sortKey(String sortBy, int row) {
+        return switch (sortBy) {
+            case "price" -> pricePaise[row];
+            case "rankingScore" -> scoreUnits[row];
+            default -> ratingCenti[row];
+        };
+    }
+
+    private int[] sortedRows(Comparator<Integer> column) {
+        Comparator<Integer> byColumnThenId = column.thenComparing(row -> rows[row].getId());
+        return IntStream.range(0, rows.length)
+                .boxed()
+                .sorted(byColumnThenId)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static long toPaise(BigDecimal amount, RoundingMode rounding) {
+        return amount == null ? 0L : amount.movePointRight(2).setScale(0, rounding).longValue();
+    }
+
+    private static long toScoreUnits(BigDecimal score) {
+        return score == null ? 0L : score.movePointRight(4).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+
+    private static int toCenti(BigDecimal rating, RoundingMode rounding) {
+        if (rating == null) {
+            return 0;
+        }
+        long centi = rating.movePointRight(2).setScale(0, rounding).longValue();
+        return (int) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, centi));
+    }
+
+    /**
+     * Dictionary of distinct values for one column with a row bitmap per value.
+     * Values are compared case-insensitively; null values get id -1 and no bitmap.
+     */
+    private static final class Dictionary {
+
+        private final int rowCount;
+        private final Map<String, Integer> idsByKey = new HashMap<>();
+        private final List<String> keys = new ArrayList<>();
+        private final List<String> values = new ArrayList<>();
+        private final List<BitSet> bitmaps = new ArrayList<>();
+
+        Dictionary(int rowCount) {
+            this.rowCount = rowCount;
+        }
+
+        int add(String value, int row) {
+            if (value == null) {
+                return -1;
+            }
+            String key = normalize(value);
+            Integer id = idsByKey.get(key);
+            if (id == null) {
+                id = keys.size();
+                idsByKey.put(key, id);
+                keys.add(key);
+                values.add(value.trim());
+                bitmaps.add(new BitSet(rowCount));
+            }
+            bitmaps.get(id).set(row);
+            return id;
+        }
+
+        BitSet equalTo(String value) {
+            Integer id = idsByKey.get(normalize(value));
+            return id == null ? new BitSet() : bitmaps.get(id);
+        }
+
+        BitSet containing(String fragment) {
+            String needle = normalize(fragment);
+            BitSet union = new BitSet(rowCount);
+            for (int id = 0; id < keys.size(); id++) {
+                if (keys.get(id).contains(needle)) {
+                    union.or(bitmaps.get(id));
+                }
+            }
+            return union;
+        }
+
+        int size() {
+            return keys.size();
+        }
+
+        String value(int id) {
+            return values.get(id);
+        }
+
+        private static String normalize(String value) {
+            return value.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.bookaro.catalog;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic catalog version counters used to tag cached catalog data and ETags.
+ * The catalog version moves on any Service, Vendor or Review write; the lookup version
+ * only when a change can affect the category, city or location lists, and the ranking
+ * version when bookings move ranking scores without a catalog write.
+ * Versions restart with the process, so tags also carry the boot epoch to stay unique.
+ */
+@Component
+public class CatalogVersion {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final AtomicLong lookupVersion = new AtomicLong();
+    private final AtomicLong rankingVersion = new AtomicLong();
+
+    public long current() {
+        return catalogVersion.get();
+    }
+
+    public long currentLookup() {
+        return lookupVersion.get();
+    }
+
+    /**
+     * Only meaningful together with the catalog version, for data ordered by rankingScore
+     */
+    public long currentRanking() {
+        return rankingVersion.get();
+    }
+
+    /**
+     * Strong ETag for data derived from the given version of the named resource
+     */
+    public String etag(String resource, long version) {
+        return "\"" + resource + "-" + epoch + "-" + version + "\"";
+    }
+
+    /**
+     * Strong ETag for data served from a background index at the given build generation,
+     * which can change while the catalog version stays the same
+     */
+    public String etag(String resource, long version, long generation) {
+        return "\"" + resource + "-" + epoch + "-" + version + "." + generation + "\"";
+    }
+
+    // Runs before the other listeners so rebuilds they trigger see the new version
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        catalogVersion.incrementAndGet();
+        if (event.isLookupChanged()) {
+            lookupVersion.incrementAndGet();
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRelatedChange(CatalogRelatedChangeEvent event) {
+        catalogVersion.incrementAndGet();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRankingChange(RankingChangeEvent event) {
+        rankingVersion.incrementAndGet();
+    }
+}
@@ -0,0 +1,57 @@
+package com.bookaro.catalog;
+
+import com.bookaro.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Opaque position in the catalog change feed: the (changedAt, serviceId) of the last
+ * change a consumer has seen, encoded as base64url of "c1:epochMicros:serviceId"
+ */
+public final class ChangeCursor {
+
+    private static final String VERSION = "c1";
+
+    public static final ChangeCursor START = new ChangeCursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    private final LocalDateTime changedAt;
+    private final Long serviceId;
+
+    public ChangeCursor(LocalDateTime changedAt, Long serviceId) {
+        this.changedAt = changedAt;
+        this.serviceId = serviceId;
+    }
+
+    public static ChangeCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(":");
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new BadRequestException("Invalid change cursor");
+            }
+            long micros = Long.parseLong(parts[1]);
+            LocalDateTime changedAt = LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                    (int) Math.floorMod(micros, 1_000_000L) * 1000, ZoneOffset.UTC);
+            return new ChangeCursor(changedAt, Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | java.time.DateTimeException e) {
+            throw new BadRequestException("Invalid change cursor");
+        }
+    }
+
+    public String encode() {
+        long micros = changedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + changedAt.getNano() / 1000;
+        String raw = String.join(":", VERSION, String.valueOf(micros), String.valueOf(serviceId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public Long getServiceId() {
+        return serviceId;
+    }
+}
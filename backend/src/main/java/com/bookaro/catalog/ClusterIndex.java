@@ -0,0 +1,269 @@
+package com.bookaro.catalog;
+
+import com.bookaro.dto.ServiceClusterDto;
+import com.bookaro.dto.ServiceDto;
+import com.bookaro.repository.ServiceRepository;
+import com.bookaro.repository.ServiceSpecifications;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-zoom map cluster aggregates over available services.
+ * Each zoom level splits the Web Mercator world into a grid four times finer than its
+ * map tiles and keeps count, price sum, rating histogram and centroid per cell.
+ * Services are added to or removed from every level as they change, so viewport
+ * queries only read the cells inside the bounding box.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterIndex implements BackgroundIndex {
+
+    public static final int MAX_ZOOM = 18;
+    private static final int CELL_ZOOM_OFFSET = 2;
+
+    private final ServiceRepository serviceRepository;
+
+    private final ExecutorService indexExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cluster-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final List<Map<Long, Cell>> levels = new ArrayList<>();
+    private final Map<Long, Point> points = new HashMap<>();
+    private volatile boolean ready;
+
+    {
+        for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+            levels.add(new HashMap<>());
+        }
+    }
+
+    public List<ServiceClusterDto> clusters(double minLat, double minLng, double maxLat, double maxLng, int zoom) {
+        int level = Math.max(0, Math.min(MAX_ZOOM, zoom));
+        int bits = level + CELL_ZOOM_OFFSET;
+        long minX = cellX(minLng, bits);
+        long maxX = cellX(maxLng, bits);
+        long minY = cellY(maxLat, bits);
+        long maxY = cellY(minLat, bits);
+
+        List<ServiceClusterDto> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<Long, Cell> cells = levels.get(level);
+            long rangeSize = (maxX - minX + 1) * (maxY - minY + 1);
+            if (rangeSize <= cells.size()) {
+                for (long x = minX; x <= maxX; x++) {
+                    for (long y = minY; y <= maxY; y++) {
+                        Cell cell = cells.get(key(x, y));
+                        if (cell != null) {
+                            result.add(cell.toDto());
+                        }
+                    }
+                }
+            } else {
+                for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+                    long x = entry.getKey() >>> 32;
+                    long y = entry.getKey() & 0xffffffffL;
+                    if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                        result.add(entry.getValue().toDto());
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public long generation() {
+        return generation.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        indexExecutor.execute(this::rebuild);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        Long serviceId = event.getServiceId();
+        indexExecutor.execute(() -> {
+            try {
+                ServiceDto service = event.getChangeType() == CatalogChangeEvent.ChangeType.DELETED
+                        ? null
+                        : serviceRepository.findDtoById(serviceId).orElse(null);
+                lock.writeLock().lock();
+                try {
+                    remove(serviceId);
+                    add(serviceId, toPoint(service));
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                generation.incrementAndGet();
+            } catch (RuntimeException e) {
+                log.error("Failed to update clusters for service {}: {}", serviceId, e.getMessage());
+            }
+        });
+    }
+
+    private void rebuild() {
+        try {
+            List<ServiceDto> services = serviceRepository.findDtos(ServiceSpecifications.available(), Sort.unsorted());
+            lock.writeLock().lock();
+            try {
+                levels.forEach(Map::clear);
+                points.clear();
+                services.forEach(service -> add(service.getId(), toPoint(service)));
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            generation.incrementAndGet();
+            log.debug("Cluster index built with {} located services", points.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to build cluster index: {}", e.getMessage());
+        }
+    }
+
+    private static Point toPoint(ServiceDto service) {
+        if (service == null || !Boolean.TRUE.equals(service.getIsAvailable())
+                || !GeoUtils.isValid(service.getLatitude(), service.getLongitude())) {
+            return null;
+        }
+        long pricePaise = service.getPrice() == null ? 0
+                : service.getPrice().movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+        int ratingCenti = service.getAverageRating() == null ? 0
+                : service.getAverageRating().movePointRight(2).setScale(0, RoundingMode.HALF_UP).intValue();
+        return new Point(service.getLatitude(), service.getLongitude(), pricePaise, ratingCenti);
+    }
+
+    private void add(Long serviceId, Point point) {
+        if (point == null) {
+            return;
+        }
+        points.put(serviceId, point);
+        for (int level = 0; level <= MAX_ZOOM; level++) {
+            int bits = level + CELL_ZOOM_OFFSET;
+            levels.get(level)
+                    .computeIfAbsent(key(cellX(point.lng(), bits), cellY(point.lat(), bits)), key -> new Cell())
+                    .add(serviceId, point);
+        }
+    }
+
+    private void remove(Long serviceId) {
+        Point point = points.remove(serviceId);
+        if (point == null) {
+            return;
+        }
+        for (int level = 0; level <= MAX_ZOOM; level++) {
+            int bits = level + CELL_ZOOM_OFFSET;
+            long key = key(cellX(point.lng(), bits), cellY(point.lat(), bits));
+            Cell cell = levels.get(level).get(key);
+            if (cell != null && cell.remove(serviceId, point)) {
+                levels.get(level).remove(key);
+            }
+        }
+    }
+
+    private static long cellX(double lng, int bits) {
+        double x = (Math.max(-180, Math.min(180, lng)) + 180) / 360;
+        return clamp((long) Math.floor(x * (1L << bits)), bits);
+    }
+
+    private static long cellY(double lat, int bits) {
+        double clamped = Math.max(-85.05112878, Math.min(85.05112878, lat));
+        double sin = Math.sin(Math.toRadians(clamped));
+        double y = 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+        return clamp((long) Math.floor(y * (1L << bits)), bits);
+    }
+
+    private static long clamp(long cell, int bits) {
+        return Math.max(0, Math.min((1L << bits) - 1, cell));
+    }
+
+    private static long key(long x, long y) {
+        return (x << 32) | y;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexExecutor.shutdownNow();
+    }
+
+    private record Point(double lat, double lng, long pricePaise, int ratingCenti) {
+    }
+
+    /**
+     * Running aggregate for one grid cell
+     */
+    private static final class Cell {
+        private final Set<Long> members = new HashSet<>();
+        private long priceSumPaise;
+        private double latSum;
+        private double lngSum;
+        private final TreeMap<Integer, Integer> ratings = new TreeMap<>();
+
+        void add(Long serviceId, Point point) {
+            members.add(serviceId);
+            priceSumPaise += point.pricePaise();
+            latSum += point.lat();
+            lngSum += point.lng();
+            ratings.merge(point.ratingCenti(), 1, Integer::sum);
+        }
+
+        /**
+         * @return true when the cell is now empty
+         */
+        boolean remove(Long serviceId, Point point) {
+            members.remove(serviceId);
+            priceSumPaise -= point.pricePaise();
+            latSum -= point.lat();
+            lngSum -= point.lng();
+            ratings.computeIfPresent(point.ratingCenti(), (rating, n) -> n > 1 ? n - 1 : null);
+            return members.isEmpty();
+        }
+
+        ServiceClusterDto toDto() {
+            int count = members.size();
+            return ServiceClusterDto.builder()
+                    .latitude(latSum / count)
+                    .longitude(lngSum / count)
+                    .count(count)
+                    .averagePrice(BigDecimal.valueOf(priceSumPaise / count, 2))
+                    .topRating(BigDecimal.valueOf(ratings.isEmpty() ? 0 : ratings.lastKey(), 2))
+                    .serviceId(count == 1 ? members.iterator().next() : null)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.bookaro.catalog;
+
+import com.bookaro.model.Booking.BookingStatus;
+import com.bookaro.repository.BookingRepository;
+import com.bookaro.repository.FavoriteRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Item-item co-occurrence of services across users, for "customers also booked" and
+ * per-user recommendations. A user's history is the set of services they completed a
+ * booking for or favorited; each pair in that set counts once per user. New history
+ * entries update the matrix incrementally. Rows are sparse primitive long-keyed maps.
+ * <p>
+ * The histories and the matrix are snapshotted to disk periodically and on shutdown.
+ * On startup the snapshot is loaded and only newer bookings and favorites are replayed.
+ * Replays are idempotent because a service already in a history is ignored. A failed
+ * replay is retried with backoff until it succeeds.
+ * <p>
+ * Histories are append-only: a booking that later leaves COMPLETED or a removed favorite
+ * keeps counting as evidence of shared interest, and replay never subtracts either.
+ */
+@Slf4j
+@Component
+public class CooccurrenceIndex {
+
+    public record Recommendation(long serviceId, double score) {
+    }
+
+    private static final int SNAPSHOT_MAGIC = 0x434F4F43;
+    private static final int SNAPSHOT_FORMAT = 1;
+    // Replay window before the snapshot time, for transactions that committed around it
+    private static final long REPLAY_OVERLAP_MINUTES = 10;
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+    // Backoff between load attempts when the history queries fail, doubling up to the cap
+    private static final long LOAD_RETRY_INITIAL_SECONDS = 1;
+    private static final long LOAD_RETRY_MAX_SECONDS = 300;
+
+    private final BookingRepository bookingRepository;
+    private final FavoriteRepository favoriteRepository;
+    private final Path snapshotPath;
+    private final long snapshotMinutes;
+
+    private final ScheduledExecutorService updateExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cooccurrence");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    // User id -> services in their history (values unused)
+    private final Map<Long, LongIntMap> histories = new HashMap<>();
+    // Service id -> co-occurring service id -> number of users with both
+    private final Map<Long, LongIntMap> rows = new HashMap<>();
+    // Service id -> number of users with it in their history
+    private final LongIntMap users = new LongIntMap(1024);
+    private volatile boolean ready;
+
+    public CooccurrenceIndex(BookingRepository bookingRepository,
+                             FavoriteRepository favoriteRepository,
+                             @Value("${catalog.cooccurrence.snapshot-path:data/cooccurrence.bin}") String snapshotPath,
+                             @Value("${catalog.cooccurrence.snapshot-minutes:15}") long snapshotMinutes) {
+        this.bookingRepository = bookingRepository;
+        this.favoriteRepository = favoriteRepository;
+        this.snapshotPath = Path.of(snapshotPath);
+        this.snapshotMinutes = snapshotMinutes;
+    }
+
+    /**
+     * Services most often in the same histories as the service, by cosine-normalized count
+     */
+    public List<Recommendation> alsoBooked(Long serviceId, int limit) {
+        lock.readLock().lock();
+        try {
+            LongIntMap row = rows.get(serviceId);
+            if (row == null) {
+                return List.of();
+            }
+            double norm = users.get(serviceId);
+            Map<Long, Double> scores = new HashMap<>(row.size() * 2);
+            row.forEach((other, count) -> scores.put(other, count / Math.sqrt(norm * users.get(other))));
+            return top(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Services co-occurring with the user's history, summed over it, excluding the history itself
+     */
+    public List<Recommendation> forUser(Long userId, int limit) {
+        lock.readLock().lock();
+        try {
+            LongIntMap history = histories.get(userId);
+            if (history == null) {
+                return List.of();
+            }
+            Map<Long, Double> scores = new HashMap<>();
+            history.forEach((serviceId, unused) -> {
+                LongIntMap row = rows.get(serviceId);
+                if (row == null) {
+                    return;
+                }
+                double norm = users.get(serviceId);
+                row.forEach((other, count) -> {
+                    if (!history.containsKey(other)) {
+                        scores.merge(other, count / Math.sqrt(norm * users.get(other)), Double::sum);
+                    }
+                });
+            });
+            return top(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        updateExecutor.execute(() -> load(LOAD_RETRY_INITIAL_SECONDS));
+        updateExecutor.scheduleWithFixedDelay(this::snapshotIfDirty, snapshotMinutes, snapshotMinutes, TimeUnit.MINUTES);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChange(BookingChangeEvent event) {
+        if (event.getStatus() == BookingStatus.COMPLETED && event.getUserId() != null) {
+            updateExecutor.execute(() -> record(event.getUserId(), event.getServiceId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoriteAdded(FavoriteAddedEvent event) {
+        updateExecutor.execute(() -> record(event.getUserId(), event.getServiceId()));
+    }
+
+    private void record(long userId, long serviceId) {
+        lock.writeLock().lock();
+        try {
+            LongIntMap history = histories.computeIfAbsent(userId, id -> new LongIntMap());
+            if (history.containsKey(serviceId)) {
+                return;
+            }
+            history.forEach((other, unused) -> {
+                rows.computeIfAbsent(serviceId, id -> new LongIntMap()).addTo(other, 1);
+                rows.computeIfAbsent(other, id -> new LongIntMap()).addTo(serviceId, 1);
+            });
+            history.put(serviceId, 1);
+            users.addTo(serviceId, 1);
+            dirty.set(true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Until a load succeeds the index is not ready, so nothing is snapshotted over the file meanwhile
+    private void load(long retrySeconds) {
+        // A failed attempt may have read the snapshot already, and user counts are additive
+        clear();
+        LocalDateTime since = BEGINNING;
+        try {
+            if (Files.exists(snapshotPath)) {
+                since = readSnapshot().minusMinutes(REPLAY_OVERLAP_MINUTES);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring co-occurrence snapshot {}: {}", snapshotPath, e.getMessage());
+            clear();
+        }
+        try {
+            List<Object[]> pairs = new ArrayList<>(
+                    bookingRepository.findUserServicePairsByStatusUpdatedAfter(BookingStatus.COMPLETED, since));
+            pairs.addAll(favoriteRepository.findUserServicePairsCreatedAfter(since));
+            pairs.forEach(pair -> record((Long) pair[0], (Long) pair[1]));
+            ready = true;
+            log.debug("Co-occurrence index ready: {} users, {} services, {} replayed since {}",
+                    histories.size(), rows.size(), pairs.size(), since);
+        } catch (RuntimeException e) {
+            log.error("Failed to load co-occurrence history, retrying in {} s: {}", retrySeconds, e.getMessage());
+            if (!updateExecutor.isShutdown()) {
+                updateExecutor.schedule(() -> load(Math.min(retrySeconds * 2, LOAD_RETRY_MAX_SECONDS)),
+                        retrySeconds, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            histories.clear();
+            rows.clear();
+            users.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void snapshotIfDirty() {
+        if (!ready || !dirty.getAndSet(false)) {
+            return;
+        }
+        try {
+            writeSnapshot();
+        } catch (IOException | RuntimeException e) {
+            dirty.set(true);
+            log.error("Failed to write co-occurrence snapshot {}: {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    // Histories, then matrix rows; user counts are derived from the histories on load
+    private void writeSnapshot() throws IOException {
+        Path parent = snapshotPath.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, "cooccurrence", ".tmp");
+        try {
+            lock.readLock().lock();
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_FORMAT);
+                out.writeLong(LocalDateTime.now().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+                writeMaps(out, histories, false);
+                writeMaps(out, rows, true);
+            } finally {
+                lock.readLock().unlock();
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writeMaps(DataOutputStream out, Map<Long, LongIntMap> maps, boolean withValues)
+            throws IOException {
+        out.writeInt(maps.size());
+        for (Map.Entry<Long, LongIntMap> entry : maps.entrySet()) {
+            out.writeLong(entry.getKey());
+            out.writeInt(entry.getValue().size());
+            LongIntMap map = entry.getValue();
+            for (long key : map.keys()) {
+                out.writeLong(key);
+                if (withValues) {
+                    out.writeInt(map.get(key));
+                }
+            }
+        }
+    }
+
+    // Returns the time the snapshot was taken
+    private LocalDateTime readSnapshot() throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_FORMAT) {
+                throw new IOException("unrecognized format");
+            }
+            LocalDateTime capturedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(in.readLong()), ZoneId.systemDefault());
+            lock.writeLock().lock();
+            try {
+                readMaps(in, histories, false);
+                readMaps(in, rows, true);
+                histories.values().forEach(history -> history.forEach((serviceId, unused) -> users.addTo(serviceId, 1)));
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return capturedAt;
+        }
+    }
+
+    private static void readMaps(DataInputStream in, Map<Long, LongIntMap> maps, boolean withValues)
+            throws IOException {
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            long key = in.readLong();
+            int size = in.readInt();
+            LongIntMap map = new LongIntMap(size);
+            for (int j = 0; j < size; j++) {
+                long entryKey = in.readLong();
+                map.put(entryKey, withValues ? in.readInt() : 1);
+            }
+            maps.put(key, map);
+        }
+    }
+
+    private static List<Recommendation> top(Map<Long, Double> scores, int limit) {
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(entry -> new Recommendation(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        updateExecutor.shutdownNow();
+        if (ready && dirty.get()) {
+            try {
+                writeSnapshot();
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to write co-occurrence snapshot on shutdown: {}", e.getMessage());
+            }
+        }
+    }
+}
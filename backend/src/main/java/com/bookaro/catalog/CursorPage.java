@@ -0,0 +1,15 @@
+package com.bookaro.catalog;
+
+import com.bookaro.dto.ServiceDto;
+
+import java.util.List;
+
+/**
+ * One keyset page of catalog results; nextCursor is null on the last page
+ */
+public record CursorPage(List<ServiceDto> content, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
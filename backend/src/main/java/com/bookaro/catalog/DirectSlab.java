@@ -0,0 +1,79 @@
+package com.bookaro.catalog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * One direct buffer allocated up front and carved into fixed-size blocks. Blocks are
+ * handed out and given back explicitly, so the native memory behind SerializedResponseCache
+ * is exactly the slab and never depends on the collector finding evicted buffers.
+ */
+final class DirectSlab {
+
+    static final int BLOCK_SIZE = 4096;
+
+    private final ByteBuffer slab;
+    private final int[] freeBlocks;
+    private int freeCount;
+
+    DirectSlab(long maxBytes) {
+        int blocks = (int) (Math.min(maxBytes, Integer.MAX_VALUE) / BLOCK_SIZE);
+        this.slab = ByteBuffer.allocateDirect(blocks * BLOCK_SIZE);
+        this.freeBlocks = new int[blocks];
+        for (int i = 0; i < blocks; i++) {
+            freeBlocks[i] = blocks - 1 - i;
+        }
+        this.freeCount = blocks;
+    }
+
+    static int blocksFor(int length) {
+        return (length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    }
+
+    int capacity() {
+        return slab.capacity();
+    }
+
+    synchronized int freeBlocks() {
+        return freeCount;
+    }
+
+    /**
+     * Takes the blocks for a body of the given length, or null when too few are free
+     */
+    synchronized int[] allocate(int length) {
+        int count = blocksFor(length);
+        if (count > freeCount) {
+            return null;
+        }
+        int[] blocks = new int[count];
+        for (int i = 0; i < count; i++) {
+            blocks[i] = freeBlocks[--freeCount];
+        }
+        return blocks;
+    }
+
+    synchronized void release(int[] blocks) {
+        for (int block : blocks) {
+            freeBlocks[freeCount++] = block;
+        }
+    }
+
+    // Absolute puts and slices leave the shared buffer's position alone, so callers need no lock
+    void write(int[] blocks, byte[] bytes) {
+        for (int i = 0; i < blocks.length; i++) {
+            int offset = i * BLOCK_SIZE;
+            slab.put(blocks[i] * BLOCK_SIZE, bytes, offset, Math.min(BLOCK_SIZE, bytes.length - offset));
+        }
+    }
+
+    void transferTo(int[] blocks, int length, WritableByteChannel channel) throws IOException {
+        for (int i = 0; i < blocks.length; i++) {
+            ByteBuffer part = slab.slice(blocks[i] * BLOCK_SIZE, Math.min(BLOCK_SIZE, length - i * BLOCK_SIZE));
+            while (part.hasRemaining()) {
+                channel.write(part);
+            }
+        }
+    }
+}
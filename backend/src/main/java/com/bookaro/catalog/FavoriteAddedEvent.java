@@ -0,0 +1,23 @@
+package com.bookaro.catalog;
+
+/**
+ * Application event published when a user adds a service to their favorites
+ */
+public class FavoriteAddedEvent {
+
+    private final Long userId;
+    private final Long serviceId;
+
+    public FavoriteAddedEvent(Long userId, Long serviceId) {
+        this.userId = userId;
+        this.serviceId = serviceId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getServiceId() {
+        return serviceId;
+    }
+}
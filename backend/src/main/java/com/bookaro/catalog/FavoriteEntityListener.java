@@ -0,0 +1,24 @@
+package com.bookaro.catalog;
+
+import com.bookaro.model.Favorite;
+import jakarta.persistence.PostPersist;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that turns new Favorite rows into FavoriteAddedEvents
+ */
+@Component
+@RequiredArgsConstructor
+public class FavoriteEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onCreate(Favorite favorite) {
+        if (favorite.getUser() != null && favorite.getService() != null) {
+            eventPublisher.publishEvent(new FavoriteAddedEvent(favorite.getUser().getId(), favorite.getService().getId()));
+        }
+    }
+}
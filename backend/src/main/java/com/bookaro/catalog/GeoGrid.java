@@ -0,0 +1,87 @@
+package com.bookaro.catalog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * Uniform latitude/longitude grid over snapshot rows.
+ * A radius query only visits the cells overlapping the radius bounding box and then
+ * checks the exact haversine distance.
+ */
+final class GeoGrid {
+
+    // ~2.2 km cells: a typical city-scale radius touches a handful of cells
+    private static final double CELL_DEGREES = 0.02;
+
+    /**
+     * Row position with its distance from the query point
+     */
+    record Neighbour(int row, double distanceKm) {
+    }
+
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final Map<Long, int[]> cells;
+
+    GeoGrid(double[] latitudes, double[] longitudes) {
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+
+        Map<Long, List<Integer>> buckets = new HashMap<>();
+        for (int row = 0; row < latitudes.length; row++) {
+            if (!Double.isNaN(latitudes[row]) && !Double.isNaN(longitudes[row])) {
+                buckets.computeIfAbsent(cellKey(latitudes[row], longitudes[row]), key -> new ArrayList<>()).add(row);
+            }
+        }
+        cells = new HashMap<>(buckets.size() * 2);
+        buckets.forEach((key, rows) -> cells.put(key, rows.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    /**
+     * Rows within radiusKm of the point that pass the filter, nearest first
+     */
+    List<Neighbour> within(double lat, double lng, double radiusKm, IntPredicate filter) {
+        double dLat = GeoUtils.latDelta(radiusKm);
+        double dLng = GeoUtils.lngDelta(lat, radiusKm);
+        long minLatCell = cell(Math.max(-90, lat - dLat));
+        long maxLatCell = cell(Math.min(90, lat + dLat));
+        long minLngCell = cell(Math.max(-180, lng - dLng));
+        long maxLngCell = cell(Math.min(180, lng + dLng));
+
+        List<Neighbour> result = new ArrayList<>();
+        for (long latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (long lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+                int[] rows = cells.get(key(latCell, lngCell));
+                if (rows == null) {
+                    continue;
+                }
+                for (int row : rows) {
+                    if (!filter.test(row)) {
+                        continue;
+                    }
+                    double distance = GeoUtils.haversineKm(lat, lng, latitudes[row], longitudes[row]);
+                    if (distance <= radiusKm) {
+                        result.add(new Neighbour(row, distance));
+                    }
+                }
+            }
+        }
+        result.sort((a, b) -> Double.compare(a.distanceKm(), b.distanceKm()));
+        return result;
+    }
+
+    private static long cellKey(double lat, double lng) {
+        return key(cell(lat), cell(lng));
+    }
+
+    private static long cell(double degrees) {
+        return (long) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long key(long latCell, long lngCell) {
+        return (latCell << 32) ^ (lngCell & 0xffffffffL);
+    }
+}
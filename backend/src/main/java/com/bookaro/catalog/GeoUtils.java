@@ -0,0 +1,41 @@
+package com.bookaro.catalog;
+
+/**
+ * Great-circle helpers for the geospatial catalog features
+ */
+public final class GeoUtils {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE_LAT = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    private GeoUtils() {
+    }
+
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * Latitude degrees spanned by the given distance
+     */
+    public static double latDelta(double radiusKm) {
+        return radiusKm / KM_PER_DEGREE_LAT;
+    }
+
+    /**
+     * Longitude degrees spanned by the given distance at the given latitude
+     */
+    public static double lngDelta(double lat, double radiusKm) {
+        double cos = Math.cos(Math.toRadians(lat));
+        return cos < 1e-6 ? 180.0 : Math.min(180.0, radiusKm / (KM_PER_DEGREE_LAT * cos));
+    }
+
+    public static boolean isValid(Double lat, Double lng) {
+        return lat != null && lng != null && lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180;
+    }
+}
@@ -0,0 +1,133 @@
+package com.bookaro.catalog;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from long keys to int values, without boxing.
+ * Used for the sparse rows of the co-occurrence matrix; keys are entity ids, so 0 is
+ * reserved as the empty slot marker. Absent keys read as 0. Not thread-safe.
+ */
+final class LongIntMap {
+
+    @FunctionalInterface
+    interface Visitor {
+        void visit(long key, int value);
+    }
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    LongIntMap() {
+        this(8);
+    }
+
+    LongIntMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expected / LOAD_FACTOR)) - 1) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(long key) {
+        int slot = find(key);
+        return keys[slot] == key ? values[slot] : 0;
+    }
+
+    boolean containsKey(long key) {
+        return key != 0 && keys[find(key)] == key;
+    }
+
+    void put(long key, int value) {
+        int slot = slotFor(key);
+        values[slot] = value;
+    }
+
+    /**
+     * Adds delta to the value of key and returns the new value
+     */
+    int addTo(long key, int delta) {
+        int slot = slotFor(key);
+        values[slot] += delta;
+        return values[slot];
+    }
+
+    /**
+     * Keys in slot order
+     */
+    long[] keys() {
+        long[] present = new long[size];
+        int next = 0;
+        for (long key : keys) {
+            if (key != 0) {
+                present[next++] = key;
+            }
+        }
+        return present;
+    }
+
+    void clear() {
+        Arrays.fill(keys, 0);
+        size = 0;
+    }
+
+    void forEach(Visitor visitor) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                visitor.visit(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    // Slot holding key, inserting it with value 0 if absent
+    private int slotFor(long key) {
+        if (key == 0) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+        int slot = find(key);
+        if (keys[slot] != key) {
+            if (size + 1 > keys.length * LOAD_FACTOR) {
+                grow();
+                slot = find(key);
+            }
+            keys[slot] = key;
+            values[slot] = 0;
+            size++;
+        }
+        return slot;
+    }
+
+    // Slot holding key, or the empty slot where it would go
+    private int find(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != 0) {
+                int target = find(oldKeys[slot]);
+                keys[target] = oldKeys[slot];
+                values[target] = oldValues[slot];
+            }
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
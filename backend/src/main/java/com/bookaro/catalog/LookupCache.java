@@ -0,0 +1,51 @@
+package com.bookaro.catalog;
+
+import com.bookaro.repository.ServiceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * In-memory cache of the category, city and location lookup lists.
+ * Entries are tagged with the lookup version and reloaded only after a service's
+ * category, city, address or availability has changed.
+ */
+@Component
+@RequiredArgsConstructor
+public class LookupCache {
+
+    private final ServiceRepository serviceRepository;
+    private final CatalogVersion catalogVersion;
+
+    private volatile Lookups lookups;
+
+    /**
+     * Lookup lists together with the version they were loaded at
+     */
+    public record Lookups(long version, List<String> categories, List<String> cities, List<String> locations) {
+    }
+
+    public Lookups get() {
+        Lookups current = lookups;
+        if (current != null && current.version() == catalogVersion.currentLookup()) {
+            return current;
+        }
+        return reload();
+    }
+
+    private synchronized Lookups reload() {
+        long version = catalogVersion.currentLookup();
+        Lookups current = lookups;
+        if (current != null && current.version() == version) {
+            return current;
+        }
+        // Read the version first: a change during loading leaves the entry stale and forces another reload
+        current = new Lookups(version,
+                List.copyOf(serviceRepository.findDistinctCategories()),
+                List.copyOf(serviceRepository.findDistinctCities()),
+                List.copyOf(serviceRepository.findDistinctLocations()));
+        lookups = current;
+        return current;
+    }
+}
@@ -0,0 +1,25 @@
+package com.bookaro.catalog;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Application event published after RankingScoreUpdater writes new booking-driven ranking
+ * scores. Unlike CatalogChangeEvent it only moves the ranking version, so listings in other
+ * orders and the background indexes keep their caches.
+ */
+public class RankingChangeEvent {
+
+    private final Map<Long, BigDecimal> rankingScores;
+
+    public RankingChangeEvent(Map<Long, BigDecimal> rankingScores) {
+        this.rankingScores = Map.copyOf(rankingScores);
+    }
+
+    /**
+     * New ranking score by service id
+     */
+    public Map<Long, BigDecimal> getRankingScores() {
+        return rankingScores;
+    }
+}
@@ -0,0 +1,50 @@
+package com.bookaro.catalog;
+
+import com.bookaro.model.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Default catalog ordering score.
+ * A Bayesian-weighted rating pulls services with few reviews towards PRIOR_MEAN, so one
+ * 5-star review no longer outranks hundreds at 4.8. Small boosts are added for booking
+ * volume (log-scaled, saturating at BOOKING_SATURATION) and for bookings in the last
+ * RECENCY_DAYS, decaying linearly.
+ */
+public final class RankingScore {
+
+    public static final int SCALE = 4;
+    public static final int RECENCY_DAYS = 30;
+
+    private static final double PRIOR_MEAN = 3.5;
+    private static final double PRIOR_REVIEWS = 10;
+    private static final double BOOKING_BOOST = 0.25;
+    private static final double BOOKING_SATURATION = 100;
+    private static final double RECENCY_BOOST = 0.1;
+
+    private RankingScore() {
+    }
+
+    public static BigDecimal of(Service service, LocalDateTime now) {
+        return compute(service.getAverageRating(), service.getTotalReviews(), service.getTotalBookings(),
+                service.getLastBookedAt(), now);
+    }
+
+    public static BigDecimal compute(BigDecimal averageRating, Integer totalReviews, Integer totalBookings,
+                                     LocalDateTime lastBookedAt, LocalDateTime now) {
+        double rating = averageRating != null ? averageRating.doubleValue() : 0;
+        int reviews = totalReviews != null ? Math.max(totalReviews, 0) : 0;
+        int bookings = totalBookings != null ? Math.max(totalBookings, 0) : 0;
+
+        double score = (PRIOR_REVIEWS * PRIOR_MEAN + reviews * rating) / (PRIOR_REVIEWS + reviews);
+        score += BOOKING_BOOST * Math.min(1, Math.log1p(bookings) / Math.log1p(BOOKING_SATURATION));
+        if (lastBookedAt != null) {
+            double days = Duration.between(lastBookedAt, now).toMinutes() / (24.0 * 60);
+            score += RECENCY_BOOST * Math.max(0, 1 - Math.max(0, days) / RECENCY_DAYS);
+        }
+        return BigDecimal.valueOf(score).setScale(SCALE, RoundingMode.HALF_UP);
+    }
+}
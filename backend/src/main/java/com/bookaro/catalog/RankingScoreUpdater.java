@@ -0,0 +1,157 @@
+package com.bookaro.catalog;
+
+import com.bookaro.model.Booking.BookingStatus;
+import com.bookaro.model.Service;
+import com.bookaro.repository.BookingRepository;
+import com.bookaro.repository.ServiceRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the booking inputs of Service.rankingScore current.
+ * Booking writes queue their service for a recount; review changes need nothing here
+ * because they save the Service, which recomputes the score itself. Recency boosts
+ * decay with time, so recently booked services are also refreshed periodically.
+ * <p>
+ * Only total_bookings, last_booked_at and ranking_score are written, guarded on the rating
+ * inputs, and each pass publishes one RankingChangeEvent instead of a CatalogChangeEvent
+ * per service, so bookings do not invalidate the whole catalog.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingScoreUpdater {
+
+    private static final long RECENCY_REFRESH_HOURS = 6;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final ServiceRepository serviceRepository;
+    private final BookingRepository bookingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ScheduledExecutorService updateExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ranking-score");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean drainQueued = new AtomicBoolean();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        updateExecutor.scheduleWithFixedDelay(this::refreshRecent,
+                RECENCY_REFRESH_HOURS, RECENCY_REFRESH_HOURS, TimeUnit.HOURS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChange(BookingChangeEvent event) {
+        pending.add(event.getServiceId());
+        // Coalesce bursts of bookings for the same services into one pass
+        if (drainQueued.compareAndSet(false, true)) {
+            updateExecutor.execute(() -> {
+                drainQueued.set(false);
+                drain();
+            });
+        }
+    }
+
+    private void drain() {
+        Map<Long, BigDecimal> updated = new HashMap<>();
+        for (Iterator<Long> it = pending.iterator(); it.hasNext(); ) {
+            Long serviceId = it.next();
+            it.remove();
+            try {
+                recount(serviceId, updated);
+            } catch (RuntimeException e) {
+                log.error("Failed to update ranking score for service {}: {}", serviceId, e.getMessage());
+            }
+        }
+        publish(updated);
+    }
+
+    private void recount(Long serviceId, Map<Long, BigDecimal> updated) {
+        int bookings = (int) bookingRepository.countByServiceIdAndStatusNot(serviceId, BookingStatus.CANCELLED);
+        LocalDateTime lastBookedAt = bookingRepository.findLastCreatedAtByServiceIdAndStatusNot(
+                serviceId, BookingStatus.CANCELLED);
+        // A review committing between the read and the update changes the rating inputs; read them again
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Optional<Service> found = serviceRepository.findById(serviceId);
+            if (found.isEmpty()) {
+                return;
+            }
+            Service service = found.get();
+            if (Objects.equals(bookings, service.getTotalBookings()) && Objects.equals(lastBookedAt, service.getLastBookedAt())) {
+                return;
+            }
+            if (update(service, bookings, lastBookedAt, LocalDateTime.now(), updated)) {
+                return;
+            }
+        }
+        log.warn("Gave up updating booking counts of service {} after {} concurrent rating changes",
+                serviceId, MAX_ATTEMPTS);
+    }
+
+    private void refreshRecent() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Map<Long, BigDecimal> updated = new HashMap<>();
+            for (Service service : serviceRepository.findByLastBookedAtAfter(now.minusDays(RankingScore.RECENCY_DAYS + 1))) {
+                BigDecimal previous = service.getRankingScore();
+                BigDecimal score = RankingScore.of(service, now);
+                // A miss means a review just saved the service, which recomputed its score anyway
+                if (previous == null || previous.compareTo(score) != 0) {
+                    update(service, service.getTotalBookings(), service.getLastBookedAt(), now, updated);
+                }
+            }
+            publish(updated);
+            log.debug("Refreshed ranking scores of {} recently booked services", updated.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh ranking scores: {}", e.getMessage());
+        }
+    }
+
+    // Guarded on the rating inputs as read, so a concurrent review's rating is never overwritten
+    private boolean update(Service service, Integer bookings, LocalDateTime lastBookedAt, LocalDateTime now,
+                           Map<Long, BigDecimal> updated) {
+        BigDecimal averageRating = Objects.requireNonNullElse(service.getAverageRating(), BigDecimal.ZERO);
+        Integer totalReviews = Objects.requireNonNullElse(service.getTotalReviews(), 0);
+        BigDecimal score = RankingScore.compute(averageRating, totalReviews, bookings, lastBookedAt, now);
+        if (serviceRepository.updateBookingStats(service.getId(), bookings, lastBookedAt, score,
+                averageRating, totalReviews) == 0) {
+            return false;
+        }
+        updated.put(service.getId(), score);
+        return true;
+    }
+
+    private void publish(Map<Long, BigDecimal> updated) {
+        if (!updated.isEmpty()) {
+            eventPublisher.publishEvent(new RankingChangeEvent(updated));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        updateExecutor.shutdownNow();
+    }
+}
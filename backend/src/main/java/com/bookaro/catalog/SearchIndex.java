@@ -0,0 +1,289 @@
+package com.bookaro.catalog;
+
+import com.bookaro.dto.ServiceDto;
+import com.bookaro.model.Vendor;
+import com.bookaro.repository.ServiceRepository;
+import com.bookaro.repository.ServiceSpecifications;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over available services used by GET /services/search.
+ * Indexes serviceName, description, category and vendor businessName with per-field
+ * weights, matches query tokens by prefix and ranks hits with BM25.
+ * Unavailable services are never indexed, so every hit is bookable.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndex implements BackgroundIndex {
+
+    private static final float NAME_WEIGHT = 3.0f;
+    private static final float CATEGORY_WEIGHT = 2.0f;
+    private static final float VENDOR_WEIGHT = 1.5f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double PREFIX_MATCH_FACTOR = 0.8;
+    // Completions kept per prefix token: the exact term, then those in the most documents
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private final ServiceRepository serviceRepository;
+
+    private final ExecutorService indexExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private double totalLength;
+    private volatile boolean ready;
+
+    /**
+     * Keyword search with optional exact category and city filters.
+     * Empty when the index has not been built yet.
+     */
+    public Optional<Page<ServiceDto>> search(String keyword, String category, String city, int page, int size) {
+        PageRequest pageable = PageRequest.of(page, size, Sort.by("averageRating").descending());
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        List<String> tokens = TextAnalyzer.tokenize(keyword);
+        List<Hit> hits = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            if (!tokens.isEmpty()) {
+                Map<Long, Double> scores = null;
+                for (String token : tokens) {
+                    Map<Long, Double> tokenScores = scoreToken(token);
+                    if (scores == null) {
+                        scores = tokenScores;
+                    } else {
+                        // Every query token has to match
+                        scores.keySet().retainAll(tokenScores.keySet());
+                        scores.replaceAll((id, score) -> score + tokenScores.get(id));
+                    }
+                    if (scores.isEmpty()) {
+                        break;
+                    }
+                }
+                for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                    ServiceDto service = documents.get(entry.getKey()).service();
+                    if (matches(category, service.getCategory()) && matches(city, service.getCity())) {
+                        hits.add(new Hit(service, entry.getValue()));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                .thenComparing(hit -> rating(hit.service()), Comparator.reverseOrder())
+                .thenComparing(hit -> hit.service().getId()));
+
+        long offset = pageable.getOffset();
+        List<ServiceDto> content = hits.stream()
+                .skip(offset)
+                .limit(size)
+                .map(Hit::service)
+                .toList();
+        return Optional.of(new PageImpl<>(content, pageable, hits.size()));
+    }
+
+    private Map<Long, Double> scoreToken(String token) {
+        Map<Long, Double> scores = new HashMap<>();
+        double averageLength = documents.isEmpty() ? 1.0 : totalLength / documents.size();
+        for (Map.Entry<String, Map<Long, Float>> term : expansions(token)) {
+            Map<Long, Float> termPostings = term.getValue();
+            double idf = Math.log(1 + (documents.size() - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+            double factor = term.getKey().equals(token) ? 1.0 : PREFIX_MATCH_FACTOR;
+            for (Map.Entry<Long, Float> posting : termPostings.entrySet()) {
+                double tf = posting.getValue();
+                double length = documents.get(posting.getKey()).length();
+                double score = factor * idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / averageLength));
+                scores.merge(posting.getKey(), score, Math::max);
+            }
+        }
+        return scores;
+    }
+
+    // Short prefixes can match far more terms than the cap; alphabetical order would drop late but common ones
+    private List<Map.Entry<String, Map<Long, Float>>> expansions(String token) {
+        return postings.subMap(token, true, token + Character.MAX_VALUE, true).entrySet().stream()
+                .sorted(Comparator.comparing((Map.Entry<String, Map<Long, Float>> term) -> !term.getKey().equals(token))
+                        .thenComparing(term -> term.getValue().size(), Comparator.reverseOrder())
+                        .thenComparing(Map.Entry::getKey))
+                .limit(MAX_PREFIX_EXPANSIONS)
+                .toList();
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public long generation() {
+        return generation.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        indexExecutor.execute(this::rebuild);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        Long serviceId = event.getServiceId();
+        if (event.getChangeType() == CatalogChangeEvent.ChangeType.DELETED) {
+            indexExecutor.execute(() -> update(serviceId, null));
+            return;
+        }
+        indexExecutor.execute(() -> {
+            try {
+                ServiceDto service = serviceRepository.findDtoById(serviceId).orElse(null);
+                update(serviceId, service);
+            } catch (RuntimeException e) {
+                log.error("Failed to reindex service {}: {}", serviceId, e.getMessage());
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRelatedChange(CatalogRelatedChangeEvent event) {
+        // Vendor business names are indexed with every service of the vendor
+        if (event.getEntityType() == Vendor.class && rebuildQueued.compareAndSet(false, true)) {
+            indexExecutor.execute(() -> {
+                rebuildQueued.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    private void rebuild() {
+        try {
+            List<ServiceDto> services = serviceRepository.findDtos(ServiceSpecifications.available(), Sort.unsorted());
+            lock.writeLock().lock();
+            try {
+                documents.clear();
+                postings.clear();
+                totalLength = 0;
+                services.forEach(this::add);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            generation.incrementAndGet();
+            log.debug("Search index built with {} services and {} terms", services.size(), postings.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to build search index: {}", e.getMessage());
+        }
+    }
+
+    private void update(Long serviceId, ServiceDto service) {
+        lock.writeLock().lock();
+        try {
+            remove(serviceId);
+            if (service != null && Boolean.TRUE.equals(service.getIsAvailable())) {
+                add(service);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        generation.incrementAndGet();
+    }
+
+    private void add(ServiceDto service) {
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, service.getServiceName(), NAME_WEIGHT);
+        addField(weights, service.getCategory(), CATEGORY_WEIGHT);
+        addField(weights, service.getDescription(), DESCRIPTION_WEIGHT);
+        if (service.getVendor() != null) {
+            addField(weights, service.getVendor().getBusinessName(), VENDOR_WEIGHT);
+        }
+
+        float length = 0;
+        for (Map.Entry<String, Float> entry : weights.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(service.getId(), entry.getValue());
+            length += entry.getValue();
+        }
+        documents.put(service.getId(), new Document(service, weights.keySet().toArray(new String[0]), length));
+        totalLength += length;
+    }
+
+    private void remove(Long serviceId) {
+        Document document = documents.remove(serviceId);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms()) {
+            Map<Long, Float> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(serviceId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= document.length();
+    }
+
+    private static void addField(Map<String, Float> weights, String text, float weight) {
+        for (String token : TextAnalyzer.tokenize(text)) {
+            weights.merge(token, weight, Float::sum);
+        }
+    }
+
+    private static boolean matches(String filter, String value) {
+        return filter == null || filter.isEmpty() || filter.equalsIgnoreCase(value);
+    }
+
+    private static BigDecimal rating(ServiceDto service) {
+        return service.getAverageRating() != null ? service.getAverageRating() : BigDecimal.ZERO;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexExecutor.shutdownNow();
+    }
+
+    private record Document(ServiceDto service, String[] terms, float length) {
+    }
+
+    private record Hit(ServiceDto service, double score) {
+    }
+}
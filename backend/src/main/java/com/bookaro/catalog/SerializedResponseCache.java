@@ -0,0 +1,196 @@
+package com.bookaro.catalog;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Fully serialized catalog responses held off-heap, in identity and gzip form. Bodies are
+ * copied into blocks of one DirectSlab sized by catalog.response-cache.max-bytes, and the
+ * blocks go back to the slab when Caffeine evicts, replaces or invalidates the entry and
+ * the last request writing it out is done. Keys carry the catalog version like
+ * CatalogResultCache, so writes make old entries unreachable. Hit/miss counts are
+ * published as cache.* metrics under the name catalogResponses.
+ */
+@Component
+public class SerializedResponseCache {
+
+    /**
+     * One cached response. Acquired entries must be closed, which hands their blocks back
+     * to the slab once the cache has dropped them too.
+     */
+    public static final class Entry implements AutoCloseable {
+
+        private final DirectSlab slab;
+        private final String contentType;
+        private final String etag;
+        private final String cacheControl;
+        private final int[] identityBlocks;
+        private final int identityLength;
+        private final int[] gzipBlocks;
+        private final int gzipLength;
+        // Starts with the cache's own reference
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        private Entry(DirectSlab slab, String contentType, String etag, String cacheControl,
+                      int[] identityBlocks, int identityLength, int[] gzipBlocks, int gzipLength) {
+            this.slab = slab;
+            this.contentType = contentType;
+            this.etag = etag;
+            this.cacheControl = cacheControl;
+            this.identityBlocks = identityBlocks;
+            this.identityLength = identityLength;
+            this.gzipBlocks = gzipBlocks;
+            this.gzipLength = gzipLength;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String etag() {
+            return etag;
+        }
+
+        public String cacheControl() {
+            return cacheControl;
+        }
+
+        public int length(boolean gzip) {
+            return gzip ? gzipLength : identityLength;
+        }
+
+        public void writeTo(boolean gzip, WritableByteChannel channel) throws IOException {
+            if (gzip) {
+                slab.transferTo(gzipBlocks, gzipLength, channel);
+            } else {
+                slab.transferTo(identityBlocks, identityLength, channel);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (references.decrementAndGet() == 0) {
+                slab.release(identityBlocks);
+                slab.release(gzipBlocks);
+            }
+        }
+
+        // Fails once the blocks may already be back in the slab
+        private boolean retain() {
+            int current;
+            do {
+                current = references.get();
+                if (current == 0) {
+                    return false;
+                }
+            } while (!references.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        private int weight() {
+            return (identityBlocks.length + gzipBlocks.length) * DirectSlab.BLOCK_SIZE;
+        }
+    }
+
+    private final DirectSlab slab;
+    private final Cache<String, Entry> cache;
+    private final int maxEntryBytes;
+
+    public SerializedResponseCache(MeterRegistry meterRegistry,
+                                   @Value("${catalog.response-cache.max-bytes:67108864}") long maxBytes,
+                                   @Value("${catalog.response-cache.max-entry-bytes:1048576}") int maxEntryBytes) {
+        this.maxEntryBytes = maxEntryBytes;
+        this.slab = new DirectSlab(maxBytes);
+        // Same-thread executor, so blocks of evicted entries are back before put returns
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(slab.capacity())
+                .weigher((String key, Entry entry) -> entry.weight())
+                .removalListener((String key, Entry entry, RemovalCause cause) -> {
+                    if (entry != null) {
+                        entry.close();
+                    }
+                })
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "catalogResponses");
+        Gauge.builder("catalog.response-cache.free-bytes", slab, s -> (double) s.freeBlocks() * DirectSlab.BLOCK_SIZE)
+                .register(meterRegistry);
+    }
+
+    /**
+     * The cached response, retained until closed, or null on a miss
+     */
+    public Entry acquire(String key) {
+        Entry entry = cache.getIfPresent(key);
+        return entry != null && entry.retain() ? entry : null;
+    }
+
+    /**
+     * Copies the body and its gzip form into the slab; empty and oversized bodies are not
+     * cached, nor are bodies that still do not fit after evicting the coldest entries
+     */
+    public void put(String key, String contentType, String etag, String cacheControl, byte[] body) {
+        if (body.length == 0 || body.length > maxEntryBytes) {
+            return;
+        }
+        byte[] gzip = gzip(body);
+        int[] identityBlocks = allocate(body.length);
+        if (identityBlocks == null) {
+            return;
+        }
+        int[] gzipBlocks = allocate(gzip.length);
+        if (gzipBlocks == null) {
+            slab.release(identityBlocks);
+            return;
+        }
+        slab.write(identityBlocks, body);
+        slab.write(gzipBlocks, gzip);
+        cache.put(key, new Entry(slab, contentType, etag, cacheControl,
+                identityBlocks, body.length, gzipBlocks, gzip.length));
+    }
+
+    int freeBytes() {
+        return slab.freeBlocks() * DirectSlab.BLOCK_SIZE;
+    }
+
+    // Blocks of entries still being written out come back later, so this may give up
+    private int[] allocate(int length) {
+        int[] blocks = slab.allocate(length);
+        Policy.Eviction<String, Entry> eviction = cache.policy().eviction().orElseThrow();
+        while (blocks == null) {
+            Map<String, Entry> coldest = eviction.coldest(1);
+            if (coldest.isEmpty()) {
+                return null;
+            }
+            cache.invalidate(coldest.keySet().iterator().next());
+            blocks = slab.allocate(length);
+        }
+        return blocks;
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
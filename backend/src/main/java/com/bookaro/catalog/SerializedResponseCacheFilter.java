@@ -0,0 +1,138 @@
+package com.bookaro.catalog;
+
+import com.bookaro.dto.ServiceDto;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves GET /services pages and GET /services/{id} from SerializedResponseCache.
+ * A hit skips the controller, DTO mapping and Jackson: the cached headers are replayed,
+ * If-None-Match is answered with 304, and the identity or gzip bytes are written
+ * straight from the off-heap slab to the servlet output stream. A miss runs the request normally and stores
+ * the serialized 200 response, unless the catalog changed or was catching up meanwhile.
+ * Listings ordered by rankingScore are also keyed on the ranking version.
+ */
+@Component
+@RequiredArgsConstructor
+public class SerializedResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern CACHED_PATHS = Pattern.compile("/services(/\\d+)?/?");
+
+    private final SerializedResponseCache responseCache;
+    private final CatalogVersion catalogVersion;
+    private final CatalogEngine catalogEngine;
+    private final TrendingIndex trendingIndex;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !CACHED_PATHS.matcher(path).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long version = catalogVersion.current();
+        boolean rankingSorted = CatalogConditionalGetInterceptor.isRankingSorted(request);
+        long rankingVersion = rankingSorted ? catalogVersion.currentRanking() : 0;
+        if (!current(rankingSorted)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String key = key(request, version, rankingVersion);
+        try (SerializedResponseCache.Entry entry = responseCache.acquire(key)) {
+            if (entry != null) {
+                recordDetailView(request);
+                writeCached(request, response, entry);
+                return;
+            }
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+            if (wrapper.getStatus() == HttpServletResponse.SC_OK && version == catalogVersion.current()
+                    && (!rankingSorted || rankingVersion == catalogVersion.currentRanking()) && current(rankingSorted)) {
+                responseCache.put(key, wrapper.getContentType(), wrapper.getHeader(HttpHeaders.ETAG),
+                        wrapper.getHeader(HttpHeaders.CACHE_CONTROL), wrapper.getContentAsByteArray());
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void writeCached(HttpServletRequest request, HttpServletResponse response,
+                             SerializedResponseCache.Entry entry) throws IOException {
+        response.addHeader(HttpHeaders.VARY, CatalogConditionalGetInterceptor.VARY);
+        if (entry.cacheControl() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, entry.cacheControl());
+        }
+        // checkNotModified also sets the ETag header when the body is sent
+        if (entry.etag() != null && new ServletWebRequest(request, response).checkNotModified(entry.etag())) {
+            return;
+        }
+
+        boolean gzip = acceptsGzip(request);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(entry.contentType());
+        response.setContentLength(entry.length(gzip));
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        entry.writeTo(gzip, Channels.newChannel(response.getOutputStream()));
+        response.flushBuffer();
+    }
+
+    // A hit skips the controller, which otherwise counts detail views for trending
+    private void recordDetailView(HttpServletRequest request) {
+        Matcher matcher = CACHED_PATHS.matcher(request.getRequestURI().substring(request.getContextPath().length()));
+        if (matcher.matches() && matcher.group(1) != null) {
+            Long serviceId = Long.valueOf(matcher.group(1).substring(1));
+            ServiceDto service = catalogEngine.findByIds(List.of(serviceId)).get(serviceId);
+            if (service != null) {
+                trendingIndex.record(TrendingIndex.Signal.VIEW, serviceId, service.getCity(), service.getCategory());
+            }
+        }
+    }
+
+    private boolean current(boolean rankingSorted) {
+        return rankingSorted ? catalogEngine.isRankingCurrent() : catalogEngine.isCurrent();
+    }
+
+    // Path and query plus Accept, since the same URL is also served as Smile or CBOR
+    private static String key(HttpServletRequest request, long version, long rankingVersion) {
+        String query = request.getQueryString();
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return version + "." + rankingVersion + "@" + request.getRequestURI() + "?" + (query != null ? query : "")
+                + "#" + (accept != null ? accept.trim().toLowerCase(Locale.ROOT) : "");
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && Arrays.stream(acceptEncoding.split(","))
+                .map(coding -> coding.trim().toLowerCase(Locale.ROOT).replace(" ", ""))
+                .anyMatch(coding -> coding.equals("gzip")
+                        || (coding.startsWith("gzip;") && !coding.matches("gzip;q=0(\\.0*)?")));
+    }
+}
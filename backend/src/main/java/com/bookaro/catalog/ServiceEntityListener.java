@@ -0,0 +1,54 @@
+package com.bookaro.catalog;
+
+import com.bookaro.model.Service;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * JPA entity listener that turns Service writes into CatalogChangeEvents.
+ * Hibernate resolves it through Spring, so the publisher is injected as usual.
+ */
+@Component
+@RequiredArgsConstructor
+public class ServiceEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    public void onLoad(Service service) {
+        service.setLoadedLookupKey(lookupKey(service));
+    }
+
+    @PostPersist
+    public void onCreate(Service service) {
+        service.setLoadedLookupKey(lookupKey(service));
+        eventPublisher.publishEvent(new CatalogChangeEvent(service.getId(), CatalogChangeEvent.ChangeType.CREATED,
+                Boolean.TRUE.equals(service.getIsAvailable())));
+    }
+
+    @PostUpdate
+    public void onUpdate(Service service) {
+        String lookupKey = lookupKey(service);
+        boolean lookupChanged = !Objects.equals(service.getLoadedLookupKey(), lookupKey);
+        service.setLoadedLookupKey(lookupKey);
+        eventPublisher.publishEvent(new CatalogChangeEvent(service.getId(), CatalogChangeEvent.ChangeType.UPDATED,
+                lookupChanged));
+    }
+
+    @PostRemove
+    public void onDelete(Service service) {
+        eventPublisher.publishEvent(new CatalogChangeEvent(service.getId(), CatalogChangeEvent.ChangeType.DELETED));
+    }
+
+    // Fields that feed the category, city and location lookup lists
+    private static String lookupKey(Service service) {
+        return service.getIsAvailable() + "|" + service.getCategory() + "|" + service.getCity() + "|" + service.getAddress();
+    }
+}
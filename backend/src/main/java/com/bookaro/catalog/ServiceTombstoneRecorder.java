@@ -0,0 +1,31 @@
+package com.bookaro.catalog;
+
+import com.bookaro.model.ServiceTombstone;
+import com.bookaro.repository.ServiceTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Writes a tombstone for every deleted Service once the delete has committed.
+ * Service removals are flushed during commit, after BEFORE_COMMIT listeners have run,
+ * so the tombstone gets its own transaction instead.
+ */
+@Component
+@RequiredArgsConstructor
+public class ServiceTombstoneRecorder {
+
+    private final ServiceTombstoneRepository tombstoneRepository;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        if (event.getChangeType() == CatalogChangeEvent.ChangeType.DELETED) {
+            tombstoneRepository.save(ServiceTombstone.builder()
+                    .serviceId(event.getServiceId())
+                    .build());
+        }
+    }
+}
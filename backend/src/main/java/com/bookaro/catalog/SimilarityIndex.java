@@ -0,0 +1,341 @@
+package com.bookaro.catalog;
+
+import com.bookaro.dto.ServiceDto;
+import com.bookaro.dto.SimilarServiceDto;
+import com.bookaro.model.Vendor;
+import com.bookaro.repository.ServiceRepository;
+import com.bookaro.repository.ServiceSpecifications;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Precomputed "similar services" for GET /services/{id}/similar.
+ * Each available service gets a MinHash signature over word and word-pair shingles of its
+ * name, description and category. Signatures are split into LSH bands, so only services
+ * sharing a band bucket are compared, and every service keeps its top neighbours by
+ * estimated Jaccard similarity. A Service write re-signs that service and refreshes the
+ * neighbour lists it enters or leaves; reads are a map lookup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SimilarityIndex implements BackgroundIndex {
+
+    private static final int BANDS = 32;
+    private static final int ROWS_PER_BAND = 4;
+    private static final int SIGNATURE_SIZE = BANDS * ROWS_PER_BAND;
+    private static final long[] HASH_SEEDS = seeds(SIGNATURE_SIZE);
+
+    public static final int MAX_NEIGHBOURS = 20;
+    private static final double MIN_SIMILARITY = 0.15;
+
+    private final ServiceRepository serviceRepository;
+
+    private final ExecutorService indexExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "similarity-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<Long, Set<Long>> buckets = new HashMap<>();
+    private final Map<Long, List<Neighbour>> neighbours = new HashMap<>();
+    // Service id -> services whose neighbour lists contain it
+    private final Map<Long, Set<Long>> listedBy = new HashMap<>();
+    private volatile boolean ready;
+
+    /**
+     * Most similar available services, best first. Empty when the index is not built yet
+     * or the service is not indexed (unknown or unavailable).
+     */
+    public Optional<List<SimilarServiceDto>> similar(Long serviceId, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            List<Neighbour> list = neighbours.get(serviceId);
+            if (list == null) {
+                return Optional.empty();
+            }
+            return Optional.of(list.stream()
+                    .limit(limit)
+                    .map(neighbour -> new SimilarServiceDto(documents.get(neighbour.serviceId()).service(),
+                            neighbour.similarity()))
+                    .toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public long generation() {
+        return generation.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        indexExecutor.execute(this::rebuild);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        Long serviceId = event.getServiceId();
+        if (event.getChangeType() == CatalogChangeEvent.ChangeType.DELETED) {
+            indexExecutor.execute(() -> update(serviceId, null));
+            return;
+        }
+        indexExecutor.execute(() -> {
+            try {
+                ServiceDto service = serviceRepository.findDtoById(serviceId).orElse(null);
+                update(serviceId, service);
+            } catch (RuntimeException e) {
+                log.error("Failed to update similarity index for service {}: {}", serviceId, e.getMessage());
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRelatedChange(CatalogRelatedChangeEvent event) {
+        // Similarity ignores vendors, but the returned DTOs carry vendor details
+        if (event.getEntityType() == Vendor.class && rebuildQueued.compareAndSet(false, true)) {
+            indexExecutor.execute(() -> {
+                rebuildQueued.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    private void rebuild() {
+        try {
+            List<ServiceDto> services = serviceRepository.findDtos(ServiceSpecifications.available(), Sort.unsorted());
+            lock.writeLock().lock();
+            try {
+                documents.clear();
+                buckets.clear();
+                neighbours.clear();
+                listedBy.clear();
+                services.forEach(this::add);
+                documents.keySet().forEach(this::computeNeighbours);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            generation.incrementAndGet();
+            log.debug("Similarity index built with {} services in {} buckets", services.size(), buckets.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to build similarity index: {}", e.getMessage());
+        }
+    }
+
+    private void update(Long serviceId, ServiceDto service) {
+        lock.writeLock().lock();
+        try {
+            // Lists that showed the old version, and lists the new version may enter
+            Set<Long> affected = new HashSet<>(listedBy.getOrDefault(serviceId, Set.of()));
+            remove(serviceId);
+            if (service != null && Boolean.TRUE.equals(service.getIsAvailable())) {
+                add(service);
+                affected.addAll(candidates(serviceId));
+                computeNeighbours(serviceId);
+            }
+            affected.remove(serviceId);
+            affected.stream()
+                    .filter(documents::containsKey)
+                    .forEach(this::computeNeighbours);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        generation.incrementAndGet();
+    }
+
+    private void add(ServiceDto service) {
+        long[] signature = signature(shingles(service));
+        long[] bandKeys = signature != null ? bandKeys(signature) : new long[0];
+        documents.put(service.getId(), new Document(service, signature, bandKeys));
+        for (long bandKey : bandKeys) {
+            buckets.computeIfAbsent(bandKey, key -> new HashSet<>()).add(service.getId());
+        }
+    }
+
+    private void remove(Long serviceId) {
+        Document document = documents.remove(serviceId);
+        if (document == null) {
+            return;
+        }
+        for (long bandKey : document.bandKeys()) {
+            Set<Long> bucket = buckets.get(bandKey);
+            if (bucket != null) {
+                bucket.remove(serviceId);
+                if (bucket.isEmpty()) {
+                    buckets.remove(bandKey);
+                }
+            }
+        }
+        setNeighbours(serviceId, List.of());
+        neighbours.remove(serviceId);
+    }
+
+    private Set<Long> candidates(Long serviceId) {
+        Set<Long> candidates = new HashSet<>();
+        for (long bandKey : documents.get(serviceId).bandKeys()) {
+            candidates.addAll(buckets.getOrDefault(bandKey, Set.of()));
+        }
+        candidates.remove(serviceId);
+        return candidates;
+    }
+
+    private void computeNeighbours(Long serviceId) {
+        long[] signature = documents.get(serviceId).signature();
+        List<Neighbour> list = new ArrayList<>();
+        for (Long candidate : candidates(serviceId)) {
+            double similarity = similarity(signature, documents.get(candidate).signature());
+            if (similarity >= MIN_SIMILARITY) {
+                list.add(new Neighbour(candidate, similarity));
+            }
+        }
+        list.sort(Comparator.comparingDouble(Neighbour::similarity).reversed()
+                .thenComparing(Neighbour::serviceId));
+        setNeighbours(serviceId, list.size() > MAX_NEIGHBOURS ? List.copyOf(list.subList(0, MAX_NEIGHBOURS)) : list);
+    }
+
+    private void setNeighbours(Long serviceId, List<Neighbour> list) {
+        List<Neighbour> previous = neighbours.put(serviceId, list);
+        if (previous != null) {
+            previous.forEach(neighbour -> {
+                Set<Long> listing = listedBy.get(neighbour.serviceId());
+                if (listing != null) {
+                    listing.remove(serviceId);
+                    if (listing.isEmpty()) {
+                        listedBy.remove(neighbour.serviceId());
+                    }
+                }
+            });
+        }
+        list.forEach(neighbour -> listedBy.computeIfAbsent(neighbour.serviceId(), id -> new HashSet<>()).add(serviceId));
+    }
+
+    /**
+     * Word and adjacent word-pair shingles; the category is a shingle of its own
+     */
+    private static Set<String> shingles(ServiceDto service) {
+        Set<String> shingles = new HashSet<>();
+        for (String text : new String[] {service.getServiceName(), service.getDescription()}) {
+            List<String> tokens = TextAnalyzer.tokenize(text);
+            for (int i = 0; i < tokens.size(); i++) {
+                shingles.add(tokens.get(i));
+                if (i + 1 < tokens.size()) {
+                    shingles.add(tokens.get(i) + " " + tokens.get(i + 1));
+                }
+            }
+        }
+        if (service.getCategory() != null && !service.getCategory().isBlank()) {
+            shingles.add("category:" + String.join(" ", TextAnalyzer.tokenize(service.getCategory())));
+        }
+        return shingles;
+    }
+
+    // Null for a service without text, which then never shares a bucket
+    private static long[] signature(Set<String> shingles) {
+        if (shingles.isEmpty()) {
+            return null;
+        }
+        long[] signature = new long[SIGNATURE_SIZE];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (String shingle : shingles) {
+            long base = shingle.hashCode();
+            for (int i = 0; i < SIGNATURE_SIZE; i++) {
+                long hash = mix(base ^ HASH_SEEDS[i]);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private static long[] bandKeys(long[] signature) {
+        long[] keys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long key = band;
+            for (int row = 0; row < ROWS_PER_BAND; row++) {
+                key = key * 31 + signature[band * ROWS_PER_BAND + row];
+            }
+            keys[band] = mix(key);
+        }
+        return keys;
+    }
+
+    // Share of equal MinHash components, an estimate of the shingle sets' Jaccard similarity
+    private static double similarity(long[] a, long[] b) {
+        if (a == null || b == null) {
+            return 0;
+        }
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIGNATURE_SIZE;
+    }
+
+    // SplitMix64 finalizer; seeded per signature row it acts as an independent hash function
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long[] seeds(int count) {
+        long[] seeds = new long[count];
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < count; i++) {
+            seed = mix(seed);
+            seeds[i] = seed;
+        }
+        return seeds;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexExecutor.shutdownNow();
+    }
+
+    private record Document(ServiceDto service, long[] signature, long[] bandKeys) {
+    }
+
+    private record Neighbour(Long serviceId, double similarity) {
+    }
+}
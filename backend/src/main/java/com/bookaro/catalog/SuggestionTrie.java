@@ -0,0 +1,135 @@
+package com.bookaro.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable, array-packed prefix trie for typeahead suggestions.
+ * Every suggestion is reachable from the start of each of its words, and every node
+ * stores its precomputed top-K completions, so a lookup is one walk down the prefix.
+ */
+public final class SuggestionTrie {
+
+    public record Suggestion(String text, String type, long weight) {
+    }
+
+    private static final int[] NO_COMPLETIONS = new int[0];
+
+    private final Suggestion[] suggestions;
+    // Node n owns edges childStart[n] .. childStart[n + 1] - 1, sorted by edgeChar
+    private final int[] childStart;
+    private final char[] edgeChar;
+    private final int[] edgeTarget;
+    private final int[][] topCompletions;
+
+    private SuggestionTrie(Suggestion[] suggestions, int[] childStart, char[] edgeChar,
+                           int[] edgeTarget, int[][] topCompletions) {
+        this.suggestions = suggestions;
+        this.childStart = childStart;
+        this.edgeChar = edgeChar;
+        this.edgeTarget = edgeTarget;
+        this.topCompletions = topCompletions;
+    }
+
+    public static SuggestionTrie build(List<Suggestion> entries, int maxCompletions) {
+        Suggestion[] suggestions = entries.toArray(new Suggestion[0]);
+        BuildNode root = new BuildNode();
+        for (int i = 0; i < suggestions.length; i++) {
+            String key = suggestions[i].text().toLowerCase(Locale.ROOT);
+            for (int start = 0; start < key.length(); start++) {
+                boolean wordStart = start == 0 || !Character.isLetterOrDigit(key.charAt(start - 1));
+                if (wordStart && Character.isLetterOrDigit(key.charAt(start))) {
+                    root.insert(key, start, i);
+                }
+            }
+        }
+
+        // Flatten breadth-first so every node's children sit in one contiguous edge range
+        List<BuildNode> nodes = new ArrayList<>();
+        nodes.add(root);
+        for (int n = 0; n < nodes.size(); n++) {
+            nodes.addAll(nodes.get(n).children.values());
+        }
+
+        int[] childStart = new int[nodes.size() + 1];
+        char[] edgeChar = new char[nodes.size() - 1];
+        int[] edgeTarget = new int[nodes.size() - 1];
+        int[][] topCompletions = new int[nodes.size()][];
+        int nextNode = 1;
+        int edge = 0;
+        for (int n = 0; n < nodes.size(); n++) {
+            childStart[n] = edge;
+            for (Map.Entry<Character, BuildNode> child : nodes.get(n).children.entrySet()) {
+                edgeChar[edge] = child.getKey();
+                edgeTarget[edge] = nextNode++;
+                edge++;
+            }
+        }
+        childStart[nodes.size()] = edge;
+
+        // Children come after their parent, so a reverse pass can merge bottom-up
+        Comparator<Integer> byWeight = Comparator.<Integer>comparingLong(i -> suggestions[i].weight()).reversed()
+                .thenComparing(i -> suggestions[i].text());
+        for (int n = nodes.size() - 1; n >= 0; n--) {
+            List<Integer> candidates = new ArrayList<>(nodes.get(n).terminals);
+            for (int e = childStart[n]; e < childStart[n + 1]; e++) {
+                for (int completion : topCompletions[edgeTarget[e]]) {
+                    candidates.add(completion);
+                }
+            }
+            topCompletions[n] = candidates.isEmpty() ? NO_COMPLETIONS : candidates.stream()
+                    .distinct()
+                    .sorted(byWeight)
+                    .limit(maxCompletions)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        return new SuggestionTrie(suggestions, childStart, edgeChar, edgeTarget, topCompletions);
+    }
+
+    public List<Suggestion> complete(String prefix, int limit) {
+        String key = prefix.toLowerCase(Locale.ROOT).trim();
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        int node = 0;
+        for (int i = 0; i < key.length(); i++) {
+            int from = childStart[node];
+            int to = childStart[node + 1];
+            int edge = Arrays.binarySearch(edgeChar, from, to, key.charAt(i));
+            if (edge < 0) {
+                return List.of();
+            }
+            node = edgeTarget[edge];
+        }
+        int[] completions = topCompletions[node];
+        List<Suggestion> result = new ArrayList<>(Math.min(limit, completions.length));
+        for (int i = 0; i < completions.length && i < limit; i++) {
+            result.add(suggestions[completions[i]]);
+        }
+        return result;
+    }
+
+    public int size() {
+        return suggestions.length;
+    }
+
+    private static final class BuildNode {
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private final List<Integer> terminals = new ArrayList<>(1);
+
+        void insert(String key, int start, int suggestion) {
+            BuildNode node = this;
+            for (int i = start; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+            }
+            node.terminals.add(suggestion);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.bookaro.catalog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Tokenizer shared by the in-memory catalog indexes.
+ * Lowercases, splits on anything that is not a letter or digit and drops common stop words.
+ */
+public final class TextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "at", "by", "for", "in", "of", "on", "or", "the", "to", "with");
+
+    private TextAnalyzer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String token = lower.substring(start, i);
+                if (!STOP_WORDS.contains(token)) {
+                    tokens.add(token);
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
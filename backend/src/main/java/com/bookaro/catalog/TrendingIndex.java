@@ -0,0 +1,314 @@
+package com.bookaro.catalog;
+
+import com.bookaro.dto.ServiceDto;
+import com.bookaro.model.Service;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Trending services overall, per city, per category and per city and category, from
+ * bookings, favorites and detail-page views with exponentially decayed weights.
+ * <p>
+ * Decay is forward decay: an event at time t adds weight * 2^((t - landmark) / halfLife),
+ * so counters only ever grow and every count shares the same divisor at read time. Counts
+ * live in a count-min sketch of CAS-updated doubles, keyed by scope and service, which keeps
+ * memory fixed however long the tail of rarely seen services is. Each scope keeps a small
+ * top-K heap updated from the sketch estimate on every event; since counts never shrink,
+ * the heap never has to re-rank members that received no events.
+ * <p>
+ * Bookings and favorites are counted from after-commit events, so rolled-back writes never
+ * count; their city and category come from the in-memory catalog. Views are recorded directly
+ * by the detail endpoint, which has the service at hand.
+ * <p>
+ * Everything lives in memory and reads never touch the database. Counters are not persisted,
+ * so after a restart the ranking recovers from new activity within a half-life or so.
+ */
+@Slf4j
+@Component
+public class TrendingIndex {
+
+    public enum Signal {
+        VIEW(1), FAVORITE(3), BOOKING(5);
+
+        private final double weight;
+
+        Signal(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    public record Trend(long serviceId, double score) {
+    }
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 1 << 14;
+    private static final long[] ROW_SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+    // Moves the landmark once the forward-decay multiplier reaches 2^32, far from double overflow
+    private static final double RESCALE_AFTER_HALF_LIVES = 32;
+    private static final String ALL = "all";
+
+    private final CatalogEngine catalogEngine;
+    private final long halfLifeMillis;
+    private final int topK;
+    private final LongSupplier clock;
+
+    private final ScheduledExecutorService rescaleExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "trending-rescale");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Epoch epoch;
+
+    @Autowired
+    public TrendingIndex(CatalogEngine catalogEngine,
+                         @Value("${catalog.trending.half-life-minutes:120}") long halfLifeMinutes,
+                         @Value("${catalog.trending.top-k:100}") int topK) {
+        this(catalogEngine, halfLifeMinutes, topK, System::currentTimeMillis);
+    }
+
+    TrendingIndex(CatalogEngine catalogEngine, long halfLifeMinutes, int topK, LongSupplier clock) {
+        this.catalogEngine = catalogEngine;
+        this.halfLifeMillis = TimeUnit.MINUTES.toMillis(halfLifeMinutes);
+        this.topK = topK;
+        this.clock = clock;
+        this.epoch = new Epoch(clock.getAsLong());
+    }
+
+    /**
+     * Counts an event for the service in every scope it belongs to
+     */
+    public void record(Signal signal, Long serviceId, String city, String category) {
+        if (serviceId == null) {
+            return;
+        }
+        Epoch current = epoch;
+        double increment = signal.weight * current.multiplier(clock.getAsLong());
+        String cityKey = Service.normalizeKey(city);
+        String categoryKey = Service.normalizeKey(category);
+
+        current.add(ALL, serviceId, increment);
+        if (hasText(cityKey)) {
+            current.add(scope(cityKey, null), serviceId, increment);
+        }
+        if (hasText(categoryKey)) {
+            current.add(scope(null, categoryKey), serviceId, increment);
+        }
+        if (hasText(cityKey) && hasText(categoryKey)) {
+            current.add(scope(cityKey, categoryKey), serviceId, increment);
+        }
+    }
+
+    /**
+     * Highest decayed scores in the scope, best first. Scores are in weighted events as of
+     * now, e.g. one booking a half-life ago counts 2.5.
+     */
+    public List<Trend> top(String city, String category, int limit) {
+        Epoch current = epoch;
+        TopK heap = current.heaps.get(scope(Service.normalizeKey(city), Service.normalizeKey(category)));
+        if (heap == null) {
+            return List.of();
+        }
+        double divisor = current.multiplier(clock.getAsLong());
+        return heap.ranked().stream()
+                .limit(limit)
+                .map(candidate -> new Trend(candidate.serviceId, candidate.score / divisor))
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rescaleExecutor.scheduleWithFixedDelay(this::rescaleIfNeeded, 1, 1, TimeUnit.HOURS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChange(BookingChangeEvent event) {
+        // Status changes republish the same booking; only its creation is new activity
+        if (event.isCreated()) {
+            record(Signal.BOOKING, event.getServiceId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoriteAdded(FavoriteAddedEvent event) {
+        record(Signal.FAVORITE, event.getServiceId());
+    }
+
+    // Services missing from the catalog snapshot cannot be listed as trending, so they are skipped
+    private void record(Signal signal, Long serviceId) {
+        ServiceDto service = catalogEngine.findLatestByIds(List.of(serviceId)).get(serviceId);
+        if (service != null) {
+            record(signal, serviceId, service.getCity(), service.getCategory());
+        }
+    }
+
+    void rescaleIfNeeded() {
+        long now = clock.getAsLong();
+        Epoch current = epoch;
+        if ((double) (now - current.landmark) / halfLifeMillis < RESCALE_AFTER_HALF_LIVES) {
+            return;
+        }
+        // Events racing the copy may land in the old epoch and be lost; trending is approximate anyway
+        Epoch rescaled = new Epoch(now);
+        double factor = 1 / current.multiplier(now);
+        for (int cell = 0; cell < current.cells.length(); cell++) {
+            double value = Double.longBitsToDouble(current.cells.get(cell));
+            if (value != 0) {
+                rescaled.cells.set(cell, Double.doubleToRawLongBits(value * factor));
+            }
+        }
+        current.heaps.forEach((scope, heap) -> rescaled.heaps.put(scope, heap.scaled(factor)));
+        epoch = rescaled;
+        log.debug("Trending counters rescaled over {} scopes", rescaled.heaps.size());
+    }
+
+    private static String scope(String cityKey, String categoryKey) {
+        boolean byCity = hasText(cityKey);
+        boolean byCategory = hasText(categoryKey);
+        if (byCity && byCategory) {
+            return "city:" + cityKey + "|category:" + categoryKey;
+        }
+        if (byCity) {
+            return "city:" + cityKey;
+        }
+        return byCategory ? "category:" + categoryKey : ALL;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rescaleExecutor.shutdownNow();
+    }
+
+    /**
+     * Sketch and heaps relative to one landmark time
+     */
+    private final class Epoch {
+
+        private final long landmark;
+        // SKETCH_DEPTH rows of SKETCH_WIDTH doubles, stored as raw long bits
+        private final AtomicLongArray cells = new AtomicLongArray(SKETCH_DEPTH * SKETCH_WIDTH);
+        private final Map<String, TopK> heaps = new ConcurrentHashMap<>();
+
+        private Epoch(long landmark) {
+            this.landmark = landmark;
+        }
+
+        private double multiplier(long now) {
+            return Math.pow(2, (double) (now - landmark) / halfLifeMillis);
+        }
+
+        private void add(String scope, long serviceId, double increment) {
+            long key = mix(scope.hashCode() * 31L + serviceId);
+            double estimate = Double.MAX_VALUE;
+            for (int row = 0; row < SKETCH_DEPTH; row++) {
+                int cell = row * SKETCH_WIDTH + (int) (mix(key ^ ROW_SEEDS[row]) & (SKETCH_WIDTH - 1));
+                estimate = Math.min(estimate, addTo(cell, increment));
+            }
+            heaps.computeIfAbsent(scope, unused -> new TopK(topK)).offer(serviceId, estimate);
+        }
+
+        private double addTo(int cell, double increment) {
+            while (true) {
+                long bits = cells.get(cell);
+                double updated = Double.longBitsToDouble(bits) + increment;
+                if (cells.compareAndSet(cell, bits, Double.doubleToRawLongBits(updated))) {
+                    return updated;
+                }
+            }
+        }
+    }
+
+    /**
+     * Bounded min-heap of the highest-scoring services in one scope
+     */
+    private static final class TopK {
+
+        private static final Comparator<Candidate> BY_SCORE = Comparator
+                .comparingDouble((Candidate candidate) -> candidate.score)
+                .thenComparing(candidate -> -candidate.serviceId);
+
+        private final int capacity;
+        private final PriorityQueue<Candidate> heap;
+        private final Map<Long, Candidate> members = new HashMap<>();
+
+        private TopK(int capacity) {
+            this.capacity = capacity;
+            this.heap = new PriorityQueue<>(capacity, BY_SCORE);
+        }
+
+        synchronized void offer(long serviceId, double score) {
+            Candidate member = members.get(serviceId);
+            if (member != null) {
+                heap.remove(member);
+                member.score = Math.max(member.score, score);
+                heap.add(member);
+                return;
+            }
+            if (heap.size() >= capacity) {
+                if (score <= heap.peek().score) {
+                    return;
+                }
+                members.remove(heap.poll().serviceId);
+            }
+            Candidate candidate = new Candidate(serviceId, score);
+            heap.add(candidate);
+            members.put(serviceId, candidate);
+        }
+
+        synchronized List<Candidate> ranked() {
+            List<Candidate> ranked = new ArrayList<>(heap.size());
+            heap.forEach(candidate -> ranked.add(new Candidate(candidate.serviceId, candidate.score)));
+            ranked.sort(BY_SCORE.reversed());
+            return ranked;
+        }
+
+        synchronized TopK scaled(double factor) {
+            TopK scaled = new TopK(capacity);
+            heap.forEach(candidate -> scaled.offer(candidate.serviceId, candidate.score * factor));
+            return scaled;
+        }
+    }
+
+    private static final class Candidate {
+
+        private final long serviceId;
+        private double score;
+
+        private Candidate(long serviceId, double score) {
+            this.serviceId = serviceId;
+            this.score = score;
+        }
+    }
+}
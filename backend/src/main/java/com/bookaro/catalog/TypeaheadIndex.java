@@ -0,0 +1,135 @@
+package com.bookaro.catalog;
+
+import com.bookaro.dto.ServiceDto;
+import com.bookaro.dto.SuggestionDto;
+import com.bookaro.model.Vendor;
+import com.bookaro.repository.ServiceRepository;
+import com.bookaro.repository.ServiceSpecifications;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Typeahead suggestions for the search box, backed by a SuggestionTrie built from
+ * service names, categories, cities, locations and vendor business names.
+ * Suggestions are weighted by how many available services they lead to.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TypeaheadIndex implements BackgroundIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private final ServiceRepository serviceRepository;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "typeahead-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile SuggestionTrie trie = SuggestionTrie.build(List.of(), MAX_SUGGESTIONS);
+    private volatile boolean ready;
+
+    public List<SuggestionDto> suggest(String prefix, int limit) {
+        return trie.complete(prefix, Math.min(limit, MAX_SUGGESTIONS))
+                .stream()
+                .map(suggestion -> SuggestionDto.builder()
+                        .text(suggestion.text())
+                        .type(suggestion.type())
+                        .weight(suggestion.weight())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public long generation() {
+        return generation.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduleRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        scheduleRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRelatedChange(CatalogRelatedChangeEvent event) {
+        if (event.getEntityType() == Vendor.class) {
+            scheduleRebuild();
+        }
+    }
+
+    private void scheduleRebuild() {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                rebuildQueued.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    private void rebuild() {
+        try {
+            Map<String, SuggestionTrie.Suggestion> suggestions = new LinkedHashMap<>();
+            for (ServiceDto service : serviceRepository.findDtos(ServiceSpecifications.available(), Sort.unsorted())) {
+                count(suggestions, service.getServiceName(), "service");
+                count(suggestions, service.getCategory(), "category");
+                count(suggestions, service.getCity(), "city");
+                count(suggestions, service.getAddress(), "location");
+                if (service.getVendor() != null) {
+                    count(suggestions, service.getVendor().getBusinessName(), "vendor");
+                }
+            }
+            trie = SuggestionTrie.build(new ArrayList<>(suggestions.values()), MAX_SUGGESTIONS);
+            ready = true;
+            generation.incrementAndGet();
+            log.debug("Typeahead index rebuilt with {} suggestions", suggestions.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild typeahead index: {}", e.getMessage());
+        }
+    }
+
+    private static void count(Map<String, SuggestionTrie.Suggestion> suggestions, String text, String type) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String value = text.trim();
+        suggestions.merge(type + ":" + value.toLowerCase(Locale.ROOT),
+                new SuggestionTrie.Suggestion(value, type, 1),
+                (existing, added) -> new SuggestionTrie.Suggestion(existing.text(), type, existing.weight() + 1));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+}
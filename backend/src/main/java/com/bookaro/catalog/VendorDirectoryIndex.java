@@ -0,0 +1,234 @@
+package com.bookaro.catalog;
+
+import com.bookaro.dto.VendorSummaryDto;
+import com.bookaro.model.Vendor;
+import com.bookaro.repository.VendorRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory directory of active vendors used by GET /vendors.
+ * Business name, primary category and location are indexed as pg_trgm-style trigrams
+ * (each word padded with two leading spaces and one trailing), so a query matches a field
+ * when enough of its trigrams occur there, which tolerates typos and partial words.
+ * The directory is an immutable snapshot rebuilt in the background on vendor writes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VendorDirectoryIndex {
+
+    // Share of the query's trigrams a field must contain, like pg_trgm's word_similarity_threshold
+    private static final double MATCH_THRESHOLD = 0.5;
+    private static final double[] FIELD_WEIGHTS = {1.0, 0.8, 0.8};
+    private static final int FIELDS = FIELD_WEIGHTS.length;
+
+    private final VendorRepository vendorRepository;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "vendor-directory");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    private volatile Directory directory;
+
+    /**
+     * Fuzzy query over name, category and location plus exact-ish filters, best matches first,
+     * or highest rated first without a query. Builds the directory on the calling thread if
+     * the background build has not finished yet.
+     */
+    public Page<VendorSummaryDto> search(String query, String category, String city, BigDecimal minRating,
+                                         Boolean verified, int page, int size) {
+        Directory current = directory;
+        if (current == null) {
+            rebuild();
+            current = directory != null ? directory : Directory.of(List.of());
+        }
+        return current.search(query, category, city, minRating, verified, PageRequest.of(page, size));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduleRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRelatedChange(CatalogRelatedChangeEvent event) {
+        if (event.getEntityType() == Vendor.class) {
+            scheduleRebuild();
+        }
+    }
+
+    private void scheduleRebuild() {
+        // Coalesce bursts of vendor writes into one rebuild
+        if (rebuildQueued.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                rebuildQueued.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    private synchronized void rebuild() {
+        try {
+            List<VendorSummaryDto> vendors = vendorRepository.findAllByIsActiveTrue().stream()
+                    .map(VendorSummaryDto::fromEntity)
+                    .toList();
+            directory = Directory.of(vendors);
+            log.debug("Vendor directory built with {} vendors", vendors.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to build vendor directory: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * Trigrams of every word in the text, e.g. "plumb" gives "  p", " pl", "plu", "lum", "umb", "mb "
+     */
+    static Set<String> trigrams(String text) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (String word : TextAnalyzer.tokenize(text)) {
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    private static final class Directory {
+
+        private static final Comparator<VendorSummaryDto> BY_RATING = Comparator
+                .comparing((VendorSummaryDto vendor) -> vendor.getAverageRating() != null
+                        ? vendor.getAverageRating() : BigDecimal.ZERO)
+                .reversed()
+                .thenComparing(VendorSummaryDto::getId);
+
+        private final VendorSummaryDto[] rows;
+        // Trigram -> postings of (row * FIELDS + field)
+        private final Map<String, int[]> postings;
+
+        private Directory(List<VendorSummaryDto> vendors) {
+            rows = vendors.toArray(new VendorSummaryDto[0]);
+            Map<String, List<Integer>> building = new HashMap<>();
+            for (int row = 0; row < rows.length; row++) {
+                String[] fields = {rows[row].getBusinessName(), rows[row].getPrimaryCategory(), rows[row].getLocation()};
+                for (int field = 0; field < FIELDS; field++) {
+                    int posting = row * FIELDS + field;
+                    for (String trigram : trigrams(fields[field])) {
+                        building.computeIfAbsent(trigram, key -> new ArrayList<>()).add(posting);
+                    }
+                }
+            }
+            postings = new HashMap<>(building.size() * 2);
+            building.forEach((trigram, list) -> postings.put(trigram,
+                    list.stream().mapToInt(Integer::intValue).toArray()));
+        }
+
+        static Directory of(List<VendorSummaryDto> vendors) {
+            return new Directory(vendors);
+        }
+
+        Page<VendorSummaryDto> search(String query, String category, String city, BigDecimal minRating,
+                                      Boolean verified, PageRequest pageable) {
+            Set<String> queryTrigrams = trigrams(query);
+            double[] scores = queryTrigrams.isEmpty() ? null : score(queryTrigrams);
+
+            List<Integer> matches = new ArrayList<>();
+            for (int row = 0; row < rows.length; row++) {
+                if (scores != null && scores[row] == 0) {
+                    continue;
+                }
+                if (accepts(rows[row], category, city, minRating, verified)) {
+                    matches.add(row);
+                }
+            }
+
+            Comparator<Integer> order = Comparator.comparing(row -> rows[row], BY_RATING);
+            if (scores != null) {
+                order = Comparator.<Integer>comparingDouble(row -> scores[row]).reversed().thenComparing(order);
+            }
+            matches.sort(order);
+
+            List<VendorSummaryDto> content = matches.stream()
+                    .skip(pageable.getOffset())
+                    .limit(pageable.getPageSize())
+                    .map(row -> rows[row])
+                    .toList();
+            return new PageImpl<>(content, pageable, matches.size());
+        }
+
+        // Best weighted share of query trigrams found in any one field, 0 below the threshold
+        private double[] score(Set<String> queryTrigrams) {
+            int[] shared = new int[rows.length * FIELDS];
+            for (String trigram : queryTrigrams) {
+                int[] trigramPostings = postings.get(trigram);
+                if (trigramPostings != null) {
+                    for (int posting : trigramPostings) {
+                        shared[posting]++;
+                    }
+                }
+            }
+            double[] scores = new double[rows.length];
+            for (int posting = 0; posting < shared.length; posting++) {
+                double similarity = (double) shared[posting] / queryTrigrams.size();
+                if (similarity >= MATCH_THRESHOLD) {
+                    int row = posting / FIELDS;
+                    scores[row] = Math.max(scores[row], similarity * FIELD_WEIGHTS[posting % FIELDS]);
+                }
+            }
+            return scores;
+        }
+
+        private static boolean accepts(VendorSummaryDto vendor, String category, String city,
+                                       BigDecimal minRating, Boolean verified) {
+            if (hasText(category) && (vendor.getPrimaryCategory() == null
+                    || !lower(vendor.getPrimaryCategory()).contains(lower(category.trim())))) {
+                return false;
+            }
+            if (hasText(city) && !city.trim().equalsIgnoreCase(vendor.getCity())) {
+                return false;
+            }
+            if (minRating != null && (vendor.getAverageRating() == null
+                    || vendor.getAverageRating().compareTo(minRating) < 0)) {
+                return false;
+            }
+            return verified == null || verified.equals(vendor.getIsVerified());
+        }
+
+        private static boolean hasText(String value) {
+            return value != null && !value.isBlank();
+        }
+
+        private static String lower(String value) {
+            return value.toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.bookaro.catalog;
+
+import com.bookaro.dto.ServiceDto;
+import com.bookaro.dto.VendorProfileDto;
+import com.bookaro.model.Review;
+import com.bookaro.model.Vendor;
+import com.bookaro.repository.ReviewRepository;
+import com.bookaro.service.VendorProfileService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+/**
+ * Assembled vendor profiles, cached per vendor.
+ * Unlike the version-keyed catalog caches, entries are invalidated individually after
+ * commit: a service write drops the profile listing the service and the profile of its
+ * current vendor, a review or vendor write drops the vendor it belongs to. Hit/miss
+ * counts are published as cache.* metrics under the name vendorProfiles.
+ */
+@Component
+public class VendorProfileCache {
+
+    private final Cache<Long, Optional<VendorProfileDto>> cache;
+    private final VendorProfileService vendorProfileService;
+    private final ReviewRepository reviewRepository;
+
+    public VendorProfileCache(VendorProfileService vendorProfileService,
+                              ReviewRepository reviewRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${catalog.vendor-profile-cache.max-entries:2000}") long maxEntries) {
+        this.vendorProfileService = vendorProfileService;
+        this.reviewRepository = reviewRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "vendorProfiles");
+    }
+
+    public Optional<VendorProfileDto> get(Long vendorId) {
+        return cache.get(vendorId, vendorProfileService::buildProfile);
+    }
+
+    /**
+     * Profile of the vendor offering the service
+     */
+    public Optional<VendorProfileDto> getByServiceId(Long serviceId) {
+        return vendorProfileService.findVendorIdByServiceId(serviceId).flatMap(this::get);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        Long serviceId = event.getServiceId();
+        // Covers deleted services and services that moved to another vendor
+        cache.asMap().entrySet().removeIf(entry -> entry.getValue()
+                .map(profile -> profile.getServices().stream().map(ServiceDto::getId).anyMatch(serviceId::equals))
+                .orElse(false));
+        if (event.getChangeType() != CatalogChangeEvent.ChangeType.DELETED) {
+            vendorProfileService.findVendorIdByServiceId(serviceId).ifPresent(cache::invalidate);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRelatedChange(CatalogRelatedChangeEvent event) {
+        if (event.getEntityType() == Vendor.class) {
+            cache.invalidate(event.getEntityId());
+        } else if (event.getEntityType() == Review.class) {
+            // Deleted reviews are no longer found; their service's rating update invalidates instead
+            reviewRepository.findVendorIdById(event.getEntityId()).ifPresent(cache::invalidate);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.bookaro.config;
+
+import com.bookaro.dto.FieldSelection;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+
+import java.util.Map;
+
+/**
+ * Jackson property filter that writes only the properties in a FieldSelection.
+ * Paths are relative to the outermost filtered DTO, so the ApiResponse envelope,
+ * page maps and lists around it do not need to be named in ?fields=. Side-loaded maps
+ * such as "vendors" are selected by the nested property they replace ("vendor.businessName").
+ */
+public class FieldSelectionFilter extends SimpleBeanPropertyFilter {
+
+    public static final String ID = "fieldSelection";
+
+    private static final Map<String, String> SIDE_LOADED = Map.of("vendors", "vendor");
+
+    private final FieldSelection selection;
+
+    public FieldSelectionFilter(FieldSelection selection) {
+        this.selection = selection;
+    }
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider provider, PropertyWriter writer)
+            throws Exception {
+        if (selection.includes(path(gen, writer.getName()))) {
+            writer.serializeAsField(pojo, gen, provider);
+        } else if (!gen.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, gen, provider);
+        }
+    }
+
+    // Walks out through enclosing filtered objects (and the arrays between them) to build "vendor.businessName"
+    private static String path(JsonGenerator gen, String name) {
+        StringBuilder path = new StringBuilder(name);
+        JsonStreamContext context = gen.getOutputContext().getParent();
+        while (context != null) {
+            if (context.inArray()) {
+                context = context.getParent();
+                continue;
+            }
+            if (!context.inObject() || !isFiltered(context.getCurrentValue())) {
+                break;
+            }
+            path.insert(0, context.getCurrentName() + ".");
+            context = context.getParent();
+        }
+        if (context != null && context.inObject() && context.getCurrentValue() instanceof Map
+                && context.getParent() != null && SIDE_LOADED.containsKey(context.getParent().getCurrentName())) {
+            path.insert(0, SIDE_LOADED.get(context.getParent().getCurrentName()) + ".");
+        }
+        return path.toString();
+    }
+
+    private static boolean isFiltered(Object value) {
+        return value != null && value.getClass().isAnnotationPresent(JsonFilter.class);
+    }
+}
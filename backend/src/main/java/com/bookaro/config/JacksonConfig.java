@@ -0,0 +1,45 @@
+package com.bookaro.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Jackson configuration for Bookaro
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * DTOs carry @JsonFilter for sparse fieldsets; without a ?fields= selection the
+     * filter id resolves to nothing and every property is written
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionFilterDefaults() {
+        return builder -> builder.filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+    }
+
+    /**
+     * Smile for clients sending Accept: application/x-jackson-smile.
+     * Built from the Boot-configured builder so modules, date handling and the filter
+     * defaults match the JSON converter; the framework's default Smile converter would not.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.build().copyWith(new SmileFactory()));
+    }
+
+    /**
+     * CBOR for clients sending Accept: application/cbor, configured like the Smile converter
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.build().copyWith(new CBORFactory()));
+    }
+}
@@ -0,0 +1,15 @@
+package com.bookaro.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a handler whose JSON response honours ?fields= sparse fieldsets.
+ * Only DTOs annotated with @JsonFilter(FieldSelectionFilter.ID) are trimmed.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SparseFieldsets {
+}
@@ -0,0 +1,46 @@
+package com.bookaro.config;
+
+import com.bookaro.dto.FieldSelection;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * Applies ?fields= to responses of handlers annotated with @SparseFieldsets
+ */
+@RestControllerAdvice
+public class SparseFieldsetsAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    public static final String FIELDS_PARAM = "fields";
+    public static final String INCLUDE_PARAM = "include";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return super.supports(returnType, converterType) && returnType.hasMethodAnnotation(SparseFieldsets.class);
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        FieldSelection selection = FieldSelection.parse(servletRequest.getServletRequest().getParameter(FIELDS_PARAM));
+        // Side-loaded responses link services to vendors by vendorId, so it is never filtered out
+        if (servletRequest.getServletRequest().getParameter(INCLUDE_PARAM) != null) {
+            selection = selection.with("vendorId");
+        }
+        if (!selection.isAll()) {
+            bodyContainer.setFilters(new SimpleFilterProvider()
+                    .addFilter(FieldSelectionFilter.ID, new FieldSelectionFilter(selection)));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.bookaro.config;
+
+import com.bookaro.catalog.CatalogConditionalGetInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC configuration for Bookaro
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final CatalogConditionalGetInterceptor catalogConditionalGetInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(catalogConditionalGetInterceptor)
+                .addPathPatterns("/services", "/services/**")
+                // The change feed, trending and also-booked move with the clock or with bookings,
+                // not only with the catalog version
+                .excludePathPatterns("/services/changes", "/services/trending", "/services/*/also-booked");
+    }
+}
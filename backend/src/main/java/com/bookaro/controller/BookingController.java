@@ -1,5 +1,6 @@
 package com.bookaro.controller;
 
+import com.bookaro.config.SparseFieldsets;
 import com.bookaro.dto.ApiResponse;
 import com.bookaro.dto.BookingDto;
 import com.bookaro.dto.CreateBookingRequest;
@@ -60,6 +61,7 @@ public class BookingController {
     }
 
     @GetMapping
+    @SparseFieldsets
     public ResponseEntity<ApiResponse<List<BookingDto>>> getUserBookings(
             @RequestParam(required = false) BookingStatus status,
             Authentication authentication) {
@@ -174,6 +176,7 @@ public class BookingController {
     }
 
     @GetMapping("/vendor")
+    @SparseFieldsets
     public ResponseEntity<ApiResponse<List<BookingDto>>> getVendorBookings(
             @RequestParam(required = false) BookingStatus status,
             Authentication authentication) {
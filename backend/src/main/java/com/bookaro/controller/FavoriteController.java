@@ -1,8 +1,11 @@
 package com.bookaro.controller;
 
+import com.bookaro.config.SparseFieldsets;
 import com.bookaro.dto.ApiResponse;
+import com.bookaro.dto.FieldSelection;
 import com.bookaro.dto.ServiceDto;
 import com.bookaro.service.FavoriteService;
+import com.bookaro.service.VendorSideLoadService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -17,11 +20,20 @@ import java.util.Map;
 public class FavoriteController {
 
     private final FavoriteService favoriteService;
+    private final VendorSideLoadService vendorSideLoadService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<ServiceDto>>> getFavoriteServices(Authentication authentication) {
-        List<ServiceDto> favorites = favoriteService.getFavoriteServices(authentication.getName());
-        return ResponseEntity.ok(ApiResponse.success("Favorite services retrieved successfully", favorites));
+    @SparseFieldsets
+    public ResponseEntity<ApiResponse<Object>> getFavoriteServices(
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String include,
+            Authentication authentication) {
+        boolean sideLoadVendors = VendorSideLoadService.isRequested(include);
+        FieldSelection selection = FieldSelection.parse(fields);
+        List<ServiceDto> favorites = favoriteService.getFavoriteServices(authentication.getName(),
+                sideLoadVendors ? VendorSideLoadService.withVendorReference(selection) : selection);
+        Object results = sideLoadVendors ? vendorSideLoadService.sideLoad(favorites) : favorites;
+        return ResponseEntity.ok(ApiResponse.success("Favorite services retrieved successfully", results));
     }
 
     @PostMapping("/{serviceId}")
@@ -1,30 +1,86 @@
 package com.bookaro.controller;
 
+import com.bookaro.catalog.CatalogCursor;
+import com.bookaro.catalog.CatalogEngine;
+import com.bookaro.catalog.CatalogQuery;
+import com.bookaro.catalog.CatalogResultCache;
+import com.bookaro.catalog.CatalogVersion;
+import com.bookaro.catalog.ChangeCursor;
+import com.bookaro.catalog.ClusterIndex;
+import com.bookaro.catalog.CursorPage;
+import com.bookaro.catalog.LookupCache;
+import com.bookaro.catalog.GeoUtils;
+import com.bookaro.catalog.SearchIndex;
+import com.bookaro.catalog.SimilarityIndex;
+import com.bookaro.catalog.TrendingIndex;
+import com.bookaro.catalog.TypeaheadIndex;
+import com.bookaro.catalog.VendorProfileCache;
+import com.bookaro.config.SparseFieldsets;
 import com.bookaro.dto.ApiResponse;
+import com.bookaro.dto.CatalogChangesDto;
+import com.bookaro.dto.FacetCountsDto;
+import com.bookaro.dto.FieldSelection;
+import com.bookaro.dto.NearbyServiceDto;
+import com.bookaro.dto.RecommendedServiceDto;
+import com.bookaro.dto.ServiceClusterDto;
 import com.bookaro.dto.ServiceDto;
-import com.bookaro.model.Service;
-import com.bookaro.repository.ServiceRepository;
+import com.bookaro.dto.ServiceListDto;
+import com.bookaro.dto.SimilarServiceDto;
+import com.bookaro.dto.ServiceBatchRequest;
+import com.bookaro.dto.SuggestionDto;
+import com.bookaro.dto.TrendingServiceDto;
+import com.bookaro.dto.VendorProfileDto;
+import com.bookaro.exception.BadRequestException;
+import com.bookaro.exception.ResourceNotFoundException;
+import com.bookaro.service.CatalogService;
+import com.bookaro.service.RecommendationService;
+import com.bookaro.service.TrendingService;
+import com.bookaro.service.VendorSideLoadService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
-import org.springframework.transaction.annotation.Transactional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/services")
 @RequiredArgsConstructor
 public class ServiceController {
 
-    private final ServiceRepository serviceRepository;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final double MAX_NEARBY_RADIUS_KM = 100;
+    private static final int MAX_NEARBY_LIMIT = 200;
+    private static final int MAX_CHANGES_LIMIT = 1000;
+    private static final int MAX_BATCH_IDS = 500;
+    private static final Duration TRENDING_MAX_AGE = Duration.ofSeconds(30);
+
+    private final CatalogService catalogService;
+    private final CatalogEngine catalogEngine;
+    private final SearchIndex searchIndex;
+    private final TypeaheadIndex typeaheadIndex;
+    private final ClusterIndex clusterIndex;
+    private final SimilarityIndex similarityIndex;
+    private final LookupCache lookupCache;
+    private final CatalogVersion catalogVersion;
+    private final CatalogResultCache resultCache;
+    private final VendorSideLoadService vendorSideLoadService;
+    private final VendorProfileCache vendorProfileCache;
+    private final RecommendationService recommendationService;
+    private final TrendingIndex trendingIndex;
+    private final TrendingService trendingService;
 
     @GetMapping
-    @Transactional(readOnly = true)
+    @SparseFieldsets
     public ResponseEntity<ApiResponse<java.util.Map<String, Object>>> getAllServices(
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String city,
@@ -34,28 +90,69 @@ public class ServiceController {
             @RequestParam(required = false) java.math.BigDecimal minRating,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "averageRating") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir
+            @RequestParam(defaultValue = "rankingScore") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean slice,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String include
     ) {
-        Pageable pageable = PageRequest.of(page, size, 
-            sortDir.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending());
-        
-        Page<Service> servicesPage;
-        
-        // Use advanced search if any filter is provided
-        if (minPrice != null || maxPrice != null || minRating != null || 
-            (category != null && !category.isEmpty()) || 
-            (city != null && !city.isEmpty()) || 
-            (location != null && !location.isEmpty())) {
-            servicesPage = serviceRepository.advancedSearch(
-                category, city, location, minPrice, maxPrice, minRating, pageable);
-        } else {
-            servicesPage = serviceRepository.findByIsAvailableTrue(pageable);
+        validatePaging(page, size);
+        boolean sideLoadVendors = VendorSideLoadService.isRequested(include);
+        FieldSelection selection = FieldSelection.parse(fields);
+        CatalogQuery query = CatalogQuery.builder()
+                .category(category)
+                .city(city)
+                .location(location)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .minRating(minRating)
+                .page(page)
+                .size(size)
+                .sortBy(sortBy)
+                .sortDir(sortDir)
+                // Side-loaded vendors are read by id, so the database path skips the vendor join
+                .fields(sideLoadVendors ? VendorSideLoadService.withVendorReference(selection) : selection)
+                .build();
+
+        String cacheKey = "services|" + query.filterKey() + "|" + query.getSortBy() + "|"
+                + query.getSortDir().toLowerCase() + "|" + page + "|" + size + "|" + cursor + "|" + slice
+                + "|" + query.getFields().key();
+        java.util.Map<String, Object> response = resultCache.get(cacheKey, query.isRankingSorted(), () -> {
+            java.util.Map<String, Object> listing = listServices(query, cursor, slice);
+            return sideLoadVendors ? withSideLoadedVendors(listing) : listing;
+        });
+
+        String message = response.containsKey("totalElements")
+                ? "Services retrieved successfully. Total: " + response.get("totalElements")
+                : "Services retrieved successfully";
+        return ResponseEntity.ok(ApiResponse.success(message, response));
+    }
+
+    private java.util.Map<String, Object> listServices(CatalogQuery query, String cursor, boolean slice) {
+        // Keyset mode: any cursor parameter, empty for the first page
+        if (cursor != null) {
+            return scrollServices(query, cursor);
         }
+
+        // Slice mode: hasNext only, no total count
+        if (slice) {
+            Slice<ServiceDto> servicesSlice = catalogEngine.slice(query)
+                    .orElseGet(() -> catalogService.findServiceSlice(query));
+
+            java.util.Map<String, Object> response = new java.util.HashMap<>();
+            response.put("content", servicesSlice.getContent());
+            response.put("currentPage", servicesSlice.getNumber());
+            response.put("size", servicesSlice.getSize());
+            response.put("hasNext", servicesSlice.hasNext());
+            return response;
+        }
+
+        // Serve from the in-memory catalog when possible, otherwise query the database
+        Page<ServiceDto> servicesPage = catalogEngine.search(query)
+                .orElseGet(() -> catalogService.findServices(query));
         
-        List<ServiceDto> serviceDtos = servicesPage.getContent().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        List<ServiceDto> serviceDtos = servicesPage.getContent();
         
         // Create a map with pagination info
         java.util.Map<String, Object> response = new java.util.HashMap<>();
@@ -64,71 +161,359 @@ public class ServiceController {
         response.put("totalElements", servicesPage.getTotalElements());
         response.put("currentPage", servicesPage.getNumber());
         response.put("size", servicesPage.getSize());
-        
-        return ResponseEntity.ok(ApiResponse.success(
-            "Services retrieved successfully. Total: " + servicesPage.getTotalElements(), 
-            response
-        ));
+        return response;
+    }
+
+    private java.util.Map<String, Object> scrollServices(CatalogQuery query, String cursor) {
+        if (!CatalogCursor.supportsSort(query.getSortBy())) {
+            throw new BadRequestException("Cursor pagination supports sortBy rankingScore, averageRating or price");
+        }
+        CatalogCursor after = cursor.isEmpty() ? null : CatalogCursor.decode(cursor);
+        if (after != null && !after.matches(query)) {
+            throw new BadRequestException("Cursor does not match the requested sort");
+        }
+
+        CursorPage cursorPage = catalogEngine.scroll(query, after)
+                .orElseGet(() -> catalogService.scrollServices(query, after));
+
+        java.util.Map<String, Object> response = new java.util.HashMap<>();
+        response.put("content", cursorPage.content());
+        response.put("size", query.getSize());
+        response.put("nextCursor", cursorPage.nextCursor());
+        response.put("hasNext", cursorPage.hasNext());
+        return response;
+    }
+
+    // Slice and cursor pages read size + 1 rows, so the cap also keeps that look-ahead from overflowing
+    private static void validatePaging(int page, int size) {
+        if (page < 0) {
+            throw new BadRequestException("page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    // Replaces each service's nested vendor with vendorId plus one deduplicated vendors map
+    @SuppressWarnings("unchecked")
+    private java.util.Map<String, Object> withSideLoadedVendors(java.util.Map<String, Object> listing) {
+        ServiceListDto normalized = vendorSideLoadService.sideLoad((List<ServiceDto>) listing.get("content"));
+        listing.put("content", normalized.getContent());
+        listing.put("vendors", normalized.getVendors());
+        return listing;
+    }
+
+    /**
+     * Services with the most recent bookings, favorites and detail views, optionally within
+     * a city and/or category, hottest first. Answered from memory only; the ranking moves
+     * between catalog versions, so it gets a short max-age instead of the catalog ETag.
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<TrendingServiceDto>>> getTrendingServices(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        if (limit < 1 || limit > TrendingService.MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + TrendingService.MAX_LIMIT);
+        }
+        List<TrendingServiceDto> services = trendingService.trending(city, category, limit);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(TRENDING_MAX_AGE).cachePublic())
+                .body(ApiResponse.success(
+                    "Trending services retrieved successfully. Found: " + services.size(), services));
     }
 
     @GetMapping("/{id}")
-    @Transactional(readOnly = true)
     public ResponseEntity<ApiResponse<ServiceDto>> getServiceById(@PathVariable Long id) {
-        Service service = serviceRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Service not found with id: " + id));
+        ServiceDto service = catalogService.findServiceById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Service not found with id: " + id));
+        trendingIndex.record(TrendingIndex.Signal.VIEW, id, service.getCity(), service.getCategory());
         
-        return ResponseEntity.ok(ApiResponse.success("Service retrieved successfully", convertToDto(service)));
+        return ResponseEntity.ok(ApiResponse.success("Service retrieved successfully", service));
+    }
+
+    /**
+     * Available services with the most similar name, description and category, best first.
+     * Served from the precomputed similarity index; empty while it is being built.
+     */
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<ApiResponse<List<SimilarServiceDto>>> getSimilarServices(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        if (limit < 1 || limit > SimilarityIndex.MAX_NEIGHBOURS) {
+            throw new BadRequestException("limit must be between 1 and " + SimilarityIndex.MAX_NEIGHBOURS);
+        }
+        List<SimilarServiceDto> similar = similarityIndex.similar(id, limit).orElseGet(() -> {
+            if (catalogService.findServiceById(id).isEmpty()) {
+                throw new ResourceNotFoundException("Service not found with id: " + id);
+            }
+            return List.of();
+        });
+
+        return ResponseEntity.ok(ApiResponse.success(
+            "Similar services retrieved successfully. Found: " + similar.size(), similar));
+    }
+
+    /**
+     * "Customers also booked": available services that most often share a user's completed
+     * bookings and favorites with this one, strongest first
+     */
+    @GetMapping("/{id}/also-booked")
+    public ResponseEntity<ApiResponse<List<RecommendedServiceDto>>> getAlsoBooked(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        if (limit < 1 || limit > RecommendationService.MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + RecommendationService.MAX_LIMIT);
+        }
+        List<RecommendedServiceDto> services = recommendationService.alsoBooked(id, limit);
+        return ResponseEntity.ok(ApiResponse.success(
+            "Recommendations retrieved successfully. Found: " + services.size(), services));
+    }
+
+    /**
+     * Profile of the vendor offering the service: vendor details, its available services
+     * and rating stats, assembled once per vendor and cached until one of them changes
+     */
+    @GetMapping("/{id}/vendor")
+    public ResponseEntity<ApiResponse<VendorProfileDto>> getServiceVendor(@PathVariable Long id) {
+        VendorProfileDto profile = vendorProfileCache.getByServiceId(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Vendor not found for service id: " + id));
+
+        return ResponseEntity.ok(ApiResponse.success("Vendor profile retrieved successfully", profile));
+    }
+
+    /**
+     * Multi-get for pages that show many known services (favorites, bookings).
+     * Ids in the current in-memory catalog are served from it; the rest are read in one
+     * IN query joined with their vendors. Results follow the request order, and ids that
+     * do not exist or are unavailable are left out, as the in-memory catalog holds only
+     * available services.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<Object>> getServicesByIds(
+            @RequestBody ServiceBatchRequest request,
+            @RequestParam(required = false) String include
+    ) {
+        if (request.getIds() == null || request.getIds().isEmpty()) {
+            throw new BadRequestException("ids must not be empty");
+        }
+        Set<Long> ids = new LinkedHashSet<>(request.getIds());
+        ids.remove(null);
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new BadRequestException("At most " + MAX_BATCH_IDS + " ids per batch");
+        }
+        boolean sideLoadVendors = VendorSideLoadService.isRequested(include);
+
+        Map<Long, ServiceDto> found = new HashMap<>(catalogEngine.findByIds(ids));
+        List<Long> missing = ids.stream().filter(id -> !found.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            catalogService.findServicesByIds(missing).stream()
+                    .filter(service -> Boolean.TRUE.equals(service.getIsAvailable()))
+                    .forEach(service -> found.put(service.getId(), service));
+        }
+        List<ServiceDto> services = ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        Object results = sideLoadVendors ? vendorSideLoadService.sideLoad(services) : services;
+        return ResponseEntity.ok(ApiResponse.success(
+            "Services retrieved successfully. Found: " + services.size() + " of " + ids.size(), results));
     }
 
     @GetMapping("/search")
-    @Transactional(readOnly = true)
-    public ResponseEntity<ApiResponse<List<ServiceDto>>> searchServices(
+    @SparseFieldsets
+    public ResponseEntity<ApiResponse<Object>> searchServices(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String city,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String include
     ) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("averageRating").descending());
-        
-        Page<Service> servicesPage;
-        
-        if (keyword != null && !keyword.isEmpty()) {
-            servicesPage = serviceRepository.findByServiceNameContainingIgnoreCaseOrDescriptionContainingIgnoreCaseAndIsAvailableTrue(
-                keyword, keyword, pageable);
-        } else {
-            servicesPage = serviceRepository.searchServices(category, city, pageable);
-        }
-        
-        List<ServiceDto> serviceDtos = servicesPage.getContent().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-        
+        validatePaging(page, size);
+        boolean sideLoadVendors = VendorSideLoadService.isRequested(include);
+        FieldSelection selection = sideLoadVendors
+                ? VendorSideLoadService.withVendorReference(FieldSelection.parse(fields))
+                : FieldSelection.parse(fields);
+        // Without a keyword the database orders by rankingScore
+        boolean rankingSorted = keyword == null || keyword.isEmpty();
+        // SearchIndex catches up after the catalog version moves, so keyword results also key on its generation
+        String cacheKey = "search|" + normalize(keyword) + "|" + normalize(category) + "|" + normalize(city)
+                + "|" + page + "|" + size + "|" + selection.key()
+                + (rankingSorted ? "" : "|g" + searchIndex.generation());
+        Page<ServiceDto> servicesPage = resultCache.get(cacheKey, rankingSorted, () -> {
+            if (keyword != null && !keyword.isEmpty()) {
+                return searchIndex.search(keyword, category, city, page, size)
+                        .orElseGet(() -> catalogService.searchServices(keyword, category, city, page, size, selection));
+            }
+            return catalogService.searchServices(null, category, city, page, size, selection);
+        });
+
+        Object results = sideLoadVendors
+                ? resultCache.get(cacheKey + "|vendors", rankingSorted, () -> vendorSideLoadService.sideLoad(servicesPage.getContent()))
+                : servicesPage.getContent();
         return ResponseEntity.ok(ApiResponse.success(
             "Search completed. Found: " + servicesPage.getTotalElements() + " services", 
-            serviceDtos
+            results
         ));
     }
 
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<SuggestionDto>>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "8") int limit
+    ) {
+        if (limit < 1 || limit > TypeaheadIndex.MAX_SUGGESTIONS) {
+            throw new BadRequestException("limit must be between 1 and " + TypeaheadIndex.MAX_SUGGESTIONS);
+        }
+        List<SuggestionDto> suggestions = typeaheadIndex.suggest(q, limit);
+        return ResponseEntity.ok(ApiResponse.success("Suggestions retrieved successfully", suggestions));
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<ApiResponse<FacetCountsDto>> getFacets(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) java.math.BigDecimal minPrice,
+            @RequestParam(required = false) java.math.BigDecimal maxPrice,
+            @RequestParam(required = false) java.math.BigDecimal minRating
+    ) {
+        CatalogQuery filters = CatalogQuery.builder()
+                .category(category)
+                .city(city)
+                .location(location)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .minRating(minRating)
+                .build();
+
+        return ResponseEntity.ok(ApiResponse.success("Facets retrieved successfully", catalogEngine.facets(filters)));
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<List<NearbyServiceDto>>> getNearbyServices(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "5") double radiusKm,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) java.math.BigDecimal minPrice,
+            @RequestParam(required = false) java.math.BigDecimal maxPrice,
+            @RequestParam(required = false) java.math.BigDecimal minRating,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        if (!GeoUtils.isValid(lat, lng)) {
+            throw new BadRequestException("Invalid coordinates");
+        }
+        if (radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM) {
+            throw new BadRequestException("radiusKm must be between 0 and " + MAX_NEARBY_RADIUS_KM);
+        }
+        if (limit < 1 || limit > MAX_NEARBY_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_NEARBY_LIMIT);
+        }
+
+        CatalogQuery filters = CatalogQuery.builder()
+                .category(category)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .minRating(minRating)
+                .build();
+
+        List<NearbyServiceDto> services = catalogEngine.nearby(filters, lat, lng, radiusKm, limit);
+        return ResponseEntity.ok(ApiResponse.success(
+            "Nearby services retrieved successfully. Found: " + services.size(), services));
+    }
+
+    @GetMapping("/clusters")
+    public ResponseEntity<ApiResponse<List<ServiceClusterDto>>> getServiceClusters(
+            @RequestParam String bbox,
+            @RequestParam int zoom
+    ) {
+        // bbox is minLng,minLat,maxLng,maxLat
+        String[] parts = bbox.split(",");
+        if (parts.length != 4) {
+            throw new BadRequestException("bbox must be minLng,minLat,maxLng,maxLat");
+        }
+        double minLng;
+        double minLat;
+        double maxLng;
+        double maxLat;
+        try {
+            minLng = Double.parseDouble(parts[0].trim());
+            minLat = Double.parseDouble(parts[1].trim());
+            maxLng = Double.parseDouble(parts[2].trim());
+            maxLat = Double.parseDouble(parts[3].trim());
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("bbox must be minLng,minLat,maxLng,maxLat");
+        }
+        if (!GeoUtils.isValid(minLat, minLng) || !GeoUtils.isValid(maxLat, maxLng) || minLat > maxLat || minLng > maxLng) {
+            throw new BadRequestException("Invalid bbox");
+        }
+
+        List<ServiceClusterDto> clusters = clusterIndex.clusters(minLat, minLng, maxLat, maxLng, zoom);
+        return ResponseEntity.ok(ApiResponse.success("Clusters retrieved successfully", clusters));
+    }
+
+    /**
+     * Incremental change feed: services created, updated or made unavailable and tombstones
+     * for deleted services since the cursor. Omit since to start from the beginning.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponse<CatalogChangesDto>> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit
+    ) {
+        if (limit < 1 || limit > MAX_CHANGES_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_CHANGES_LIMIT);
+        }
+        ChangeCursor cursor = since == null || since.isBlank() ? ChangeCursor.START : ChangeCursor.decode(since);
+
+        CatalogChangesDto changes = catalogService.findChanges(cursor, limit);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("Changes retrieved successfully. Found: " + changes.getChanges().size(),
+                        changes));
+    }
+
     @GetMapping("/categories")
-    public ResponseEntity<ApiResponse<List<String>>> getCategories() {
-        List<String> categories = serviceRepository.findDistinctCategories();
-        return ResponseEntity.ok(ApiResponse.success("Categories retrieved successfully", categories));
+    public ResponseEntity<ApiResponse<List<String>>> getCategories(WebRequest webRequest) {
+        LookupCache.Lookups lookups = lookupCache.get();
+        String etag = catalogVersion.etag("categories", lookups.version());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        List<String> categories = lookups.categories();
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.success("Categories retrieved successfully", categories));
     }
 
     @GetMapping("/locations")
-    public ResponseEntity<ApiResponse<List<String>>> getLocations() {
-        List<String> locations = serviceRepository.findDistinctLocations();
-        return ResponseEntity.ok(ApiResponse.success("Locations retrieved successfully", locations));
+    public ResponseEntity<ApiResponse<List<String>>> getLocations(WebRequest webRequest) {
+        LookupCache.Lookups lookups = lookupCache.get();
+        String etag = catalogVersion.etag("locations", lookups.version());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        List<String> locations = lookups.locations();
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.success("Locations retrieved successfully", locations));
     }
     
     @GetMapping("/cities")
-    public ResponseEntity<ApiResponse<List<String>>> getCities() {
-        List<String> cities = serviceRepository.findDistinctCities();
-        return ResponseEntity.ok(ApiResponse.success("Cities retrieved successfully", cities));
+    public ResponseEntity<ApiResponse<List<String>>> getCities(WebRequest webRequest) {
+        LookupCache.Lookups lookups = lookupCache.get();
+        String etag = catalogVersion.etag("cities", lookups.version());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        List<String> cities = lookups.cities();
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.success("Cities retrieved successfully", cities));
     }
 
-    private ServiceDto convertToDto(Service service) {
-        return ServiceDto.fromEntity(service);
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase();
     }
 }
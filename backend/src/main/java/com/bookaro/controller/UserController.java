@@ -1,10 +1,13 @@
 package com.bookaro.controller;
 
 import com.bookaro.dto.ApiResponse;
+import com.bookaro.dto.RecommendedServiceDto;
 import com.bookaro.dto.UserDto;
 import com.bookaro.dto.UserUpdateRequest;
 import com.bookaro.model.User;
+import com.bookaro.exception.BadRequestException;
 import com.bookaro.repository.UserRepository;
+import com.bookaro.service.RecommendationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -12,6 +15,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.util.List;
 
 @RestController
 @RequestMapping("/users")
@@ -20,6 +24,7 @@ public class UserController {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final RecommendationService recommendationService;
 
     @GetMapping("/profile")
     public ResponseEntity<ApiResponse<UserDto>> getProfile(Authentication authentication) {
@@ -30,6 +35,21 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success("Profile retrieved successfully", convertToDto(user)));
     }
 
+    /**
+     * Services recommended from the co-occurrence of the user's bookings and favorites with others'
+     */
+    @GetMapping("/recommendations")
+    public ResponseEntity<ApiResponse<List<RecommendedServiceDto>>> getRecommendations(
+            @RequestParam(defaultValue = "10") int limit,
+            Authentication authentication) {
+        if (limit < 1 || limit > RecommendationService.MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + RecommendationService.MAX_LIMIT);
+        }
+        List<RecommendedServiceDto> services = recommendationService.forUser(authentication.getName(), limit);
+        return ResponseEntity.ok(ApiResponse.success(
+            "Recommendations retrieved successfully. Found: " + services.size(), services));
+    }
+
     @PutMapping("/profile")
     public ResponseEntity<ApiResponse<UserDto>> updateProfile(
             @Valid @RequestBody UserUpdateRequest request,
@@ -0,0 +1,69 @@
+package com.bookaro.controller;
+
+import com.bookaro.catalog.VendorDirectoryIndex;
+import com.bookaro.catalog.VendorProfileCache;
+import com.bookaro.dto.ApiResponse;
+import com.bookaro.dto.VendorProfileDto;
+import com.bookaro.dto.VendorSummaryDto;
+import com.bookaro.exception.BadRequestException;
+import com.bookaro.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/vendors")
+@RequiredArgsConstructor
+public class VendorController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final VendorDirectoryIndex vendorDirectoryIndex;
+    private final VendorProfileCache vendorProfileCache;
+
+    /**
+     * Directory of active vendors. q matches business name, category and location with
+     * typo tolerance; without q vendors are listed highest rated first.
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getVendors(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) BigDecimal minRating,
+            @RequestParam(required = false) Boolean verified,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        if (page < 0) {
+            throw new BadRequestException("page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        Page<VendorSummaryDto> vendorsPage = vendorDirectoryIndex.search(q, category, city, minRating, verified, page, size);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("content", vendorsPage.getContent());
+        response.put("totalPages", vendorsPage.getTotalPages());
+        response.put("totalElements", vendorsPage.getTotalElements());
+        response.put("currentPage", vendorsPage.getNumber());
+        response.put("size", vendorsPage.getSize());
+        return ResponseEntity.ok(ApiResponse.success(
+            "Vendors retrieved successfully. Total: " + vendorsPage.getTotalElements(), response));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<VendorProfileDto>> getVendorById(@PathVariable Long id) {
+        VendorProfileDto profile = vendorProfileCache.get(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Vendor not found with id: " + id));
+
+        return ResponseEntity.ok(ApiResponse.success("Vendor profile retrieved successfully", profile));
+    }
+}
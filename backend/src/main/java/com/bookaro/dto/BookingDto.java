@@ -1,5 +1,7 @@
 package com.bookaro.dto;
 
+import com.bookaro.config.FieldSelectionFilter;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,6 +16,7 @@ import java.time.LocalTime;
  * DTO for booking information
  */
 @Data
+@JsonFilter(FieldSelectionFilter.ID)
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -0,0 +1,23 @@
+package com.bookaro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Page of the catalog change feed. Pass nextCursor back as since to continue;
+ * it is returned even when no changes were found, so consumers can keep polling.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogChangesDto {
+
+    private List<ServiceChangeDto> changes;
+    private String nextCursor;
+    private boolean hasMore;
+}
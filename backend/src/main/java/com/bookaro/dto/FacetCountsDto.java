@@ -0,0 +1,26 @@
+package com.bookaro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO for catalog facet counts.
+ * Each facet is counted with every filter applied except its own, so the sidebar shows
+ * how many services each alternative value would return.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FacetCountsDto {
+
+    private Long total;
+    private Map<String, Long> categories;
+    private Map<String, Long> cities;
+    private Map<String, Long> priceRanges;
+    private Map<String, Long> ratings;
+}
@@ -0,0 +1,90 @@
+package com.bookaro.dto;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Sparse fieldset requested with ?fields=, e.g. "id,serviceName,price,vendor.businessName".
+ * A path selects its whole subtree ("vendor" keeps every vendor field) and implies its
+ * parents ("vendor.businessName" keeps the vendor object). No fields means everything.
+ * Paths removed with without() are excluded whatever else is selected.
+ */
+public final class FieldSelection {
+
+    public static final FieldSelection ALL = new FieldSelection(null, Set.of());
+
+    private final Set<String> paths;
+    private final Set<String> excluded;
+
+    private FieldSelection(Set<String> paths, Set<String> excluded) {
+        this.paths = paths;
+        this.excluded = excluded;
+    }
+
+    public static FieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> paths = new TreeSet<>();
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(path -> !path.isEmpty())
+                .forEach(paths::add);
+        return paths.isEmpty() ? ALL : new FieldSelection(Collections.unmodifiableSet(paths), Set.of());
+    }
+
+    public boolean isAll() {
+        return paths == null && excluded.isEmpty();
+    }
+
+    /**
+     * Whether the property at the dotted path is part of the selection
+     */
+    public boolean includes(String path) {
+        for (String removed : excluded) {
+            if (removed.equals(path) || path.startsWith(removed + ".")) {
+                return false;
+            }
+        }
+        if (paths == null) {
+            return true;
+        }
+        for (String selected : paths) {
+            if (selected.equals(path) || path.startsWith(selected + ".") || selected.startsWith(path + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Selection with extra paths the server needs internally, such as a cursor's sort column
+     */
+    public FieldSelection with(String... required) {
+        if (paths == null) {
+            return this;
+        }
+        Set<String> extended = new TreeSet<>(paths);
+        extended.addAll(Arrays.asList(required));
+        return new FieldSelection(Collections.unmodifiableSet(extended), excluded);
+    }
+
+    /**
+     * Selection without a subtree the server supplies another way, such as side-loaded vendors
+     */
+    public FieldSelection without(String path) {
+        Set<String> removed = new TreeSet<>(excluded);
+        removed.add(path);
+        return new FieldSelection(paths, Collections.unmodifiableSet(removed));
+    }
+
+    /**
+     * Stable form for cache keys
+     */
+    public String key() {
+        String key = paths == null ? "*" : String.join(",", paths);
+        return excluded.isEmpty() ? key : key + "-" + String.join(",", excluded);
+    }
+}
@@ -0,0 +1,19 @@
+package com.bookaro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a service returned by a radius search, with its distance from the search point
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NearbyServiceDto {
+
+    private ServiceDto service;
+    private Double distanceKm;
+}
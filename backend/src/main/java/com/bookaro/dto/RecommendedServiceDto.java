@@ -0,0 +1,19 @@
+package com.bookaro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a recommended service, with its co-occurrence score (higher is stronger)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecommendedServiceDto {
+
+    private ServiceDto service;
+    private Double score;
+}
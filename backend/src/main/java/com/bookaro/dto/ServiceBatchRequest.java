@@ -0,0 +1,14 @@
+package com.bookaro.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Body of POST /services/batch
+ */
+@Data
+public class ServiceBatchRequest {
+
+    private List<Long> ids;
+}
@@ -0,0 +1,29 @@
+package com.bookaro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the catalog change feed. Service is null for DELETED tombstones.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ServiceChangeDto {
+
+    public enum ChangeType {
+        UPSERTED,     // Created or updated and bookable
+        UNAVAILABLE,  // Still exists but no longer listed
+        DELETED       // Row removed
+    }
+
+    private ChangeType type;
+    private Long serviceId;
+    private LocalDateTime changedAt;
+    private ServiceDto service;
+}
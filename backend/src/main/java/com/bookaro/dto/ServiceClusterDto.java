@@ -0,0 +1,25 @@
+package com.bookaro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for an aggregated map cluster of services
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ServiceClusterDto {
+
+    private Double latitude;
+    private Double longitude;
+    private Integer count;
+    private BigDecimal averagePrice;
+    private BigDecimal topRating;
+    private Long serviceId; // Set only when the cluster holds a single service
+}
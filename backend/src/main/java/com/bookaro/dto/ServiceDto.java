@@ -1,20 +1,25 @@
 package com.bookaro.dto;
 
+import com.bookaro.config.FieldSelectionFilter;
 import com.bookaro.model.Service;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 /**
  * DTO for service information
  */
 @Data
+@JsonFilter(FieldSelectionFilter.ID)
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class ServiceDto {
 
     private Long id;
@@ -32,8 +37,54 @@ public class ServiceDto {
     private Boolean isAvailable;
     private BigDecimal averageRating;
     private Integer totalReviews;
+    private BigDecimal rankingScore;
+    private LocalDateTime updatedAt;
+    // Set instead of vendor when vendors are side-loaded (?include=vendors)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long vendorId;
     private VendorInfoDto vendor;
 
+    /**
+     * Flat constructor used by the read-only projection queries, which select service and
+     * vendor columns in a single joined row
+     */
+    public ServiceDto(Long id, String serviceName, String description, String category, BigDecimal price,
+                      Integer durationMinutes, String address, String city, String state, String postalCode,
+                      Double latitude, Double longitude, Boolean isAvailable, BigDecimal averageRating,
+                      Integer totalReviews, BigDecimal rankingScore, LocalDateTime updatedAt, Long vendorId,
+                      String vendorCode, String businessName, String primaryCategory, String phone, String email,
+                      String location, String availability, Integer yearsOfExperience,
+                      BigDecimal vendorAverageRating, Integer vendorTotalReviews, Boolean isVerified) {
+        this(id, serviceName, description, category, price, durationMinutes, address, city, state, postalCode,
+                latitude, longitude, isAvailable, averageRating, totalReviews, rankingScore, updatedAt, null, null);
+        if (vendorId != null) {
+            this.vendor = VendorInfoDto.builder()
+                    .id(vendorId)
+                    .vendorCode(vendorCode)
+                    .businessName(businessName)
+                    .primaryCategory(primaryCategory)
+                    .phone(phone)
+                    .email(email)
+                    .location(location)
+                    .availability(availability)
+                    .yearsOfExperience(yearsOfExperience)
+                    .averageRating(vendorAverageRating)
+                    .totalReviews(vendorTotalReviews)
+                    .isVerified(isVerified)
+                    .build();
+        }
+    }
+
+    /**
+     * Copy that references its vendor by id only, for responses that side-load vendors
+     */
+    public ServiceDto withVendorReference() {
+        return toBuilder()
+                .vendorId(vendor != null ? vendor.getId() : vendorId)
+                .vendor(null)
+                .build();
+    }
+
     public static ServiceDto fromEntity(Service service) {
         ServiceDto dto = ServiceDto.builder()
                 .id(service.getId())
@@ -51,6 +102,8 @@ public class ServiceDto {
                 .isAvailable(service.getIsAvailable())
                 .averageRating(service.getAverageRating())
                 .totalReviews(service.getTotalReviews())
+                .rankingScore(service.getRankingScore())
+                .updatedAt(service.getUpdatedAt())
                 .build();
 
         if (service.getVendor() != null) {
@@ -0,0 +1,23 @@
+package com.bookaro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Services with their vendors side-loaded (?include=vendors): each service carries
+ * vendorId and every distinct vendor appears once in vendors, keyed by id
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ServiceListDto {
+
+    private List<ServiceDto> content;
+    private Map<Long, VendorInfoDto> vendors;
+}
@@ -0,0 +1,19 @@
+package com.bookaro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a service returned as similar to another, with its estimated content similarity (0-1)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimilarServiceDto {
+
+    private ServiceDto service;
+    private Double similarity;
+}
@@ -0,0 +1,20 @@
+package com.bookaro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a typeahead suggestion
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SuggestionDto {
+
+    private String text;
+    private String type;
+    private Long weight;
+}
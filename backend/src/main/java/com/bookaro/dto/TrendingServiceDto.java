@@ -0,0 +1,19 @@
+package com.bookaro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a trending service, with its time-decayed activity score (weighted recent events)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrendingServiceDto {
+
+    private ServiceDto service;
+    private Double score;
+}
@@ -1,5 +1,7 @@
 package com.bookaro.dto;
 
+import com.bookaro.config.FieldSelectionFilter;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,6 +13,7 @@ import java.math.BigDecimal;
  * DTO for vendor information in service listings
  */
 @Data
+@JsonFilter(FieldSelectionFilter.ID)
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
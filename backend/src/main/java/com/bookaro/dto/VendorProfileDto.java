@@ -0,0 +1,58 @@
+package com.bookaro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Vendor page aggregate: vendor details, its available services and rating stats
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VendorProfileDto {
+
+    private Long id;
+    private String vendorCode;
+    private String businessName;
+    private String primaryCategory;
+    private String contactPerson;
+    private String phone;
+    private String email;
+    private String location;
+    private String address;
+    private String city;
+    private String state;
+    private String postalCode;
+    private Double latitude;
+    private Double longitude;
+    private Integer yearsOfExperience;
+    private String availability;
+    private String description;
+    private Boolean isVerified;
+    private LocalDateTime memberSince;
+    private List<ServiceDto> services;
+    private RatingStats ratings;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RatingStats {
+
+        // Vendor-level rating as stored on the vendor
+        private BigDecimal averageRating;
+        private Integer totalReviews;
+        // Review-weighted average over the available services
+        private BigDecimal servicesAverageRating;
+        private Integer servicesTotalReviews;
+        private Integer reviewedServices;
+        private Integer availableServices;
+    }
+}
@@ -0,0 +1,47 @@
+package com.bookaro.dto;
+
+import com.bookaro.model.Vendor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for vendor directory listings
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VendorSummaryDto {
+
+    private Long id;
+    private String vendorCode;
+    private String businessName;
+    private String primaryCategory;
+    private String location;
+    private String city;
+    private String availability;
+    private Integer yearsOfExperience;
+    private BigDecimal averageRating;
+    private Integer totalReviews;
+    private Boolean isVerified;
+
+    public static VendorSummaryDto fromEntity(Vendor vendor) {
+        return VendorSummaryDto.builder()
+                .id(vendor.getId())
+                .vendorCode(vendor.getVendorCode())
+                .businessName(vendor.getBusinessName())
+                .primaryCategory(vendor.getPrimaryCategory())
+                .location(vendor.getLocation())
+                .city(vendor.getCity())
+                .availability(vendor.getAvailability())
+                .yearsOfExperience(vendor.getYearsOfExperience())
+                .averageRating(vendor.getAverageRating())
+                .totalReviews(vendor.getTotalReviews())
+                .isVerified(vendor.getIsVerified())
+                .build();
+    }
+}
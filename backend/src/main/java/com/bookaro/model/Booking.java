@@ -1,5 +1,6 @@
 package com.bookaro.model;
 
+import com.bookaro.catalog.BookingEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,7 +25,7 @@ import java.time.LocalTime;
     @Index(name = "idx_status", columnList = "status"),
     @Index(name = "idx_booking_date", columnList = "booking_date")
 })
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, BookingEntityListener.class})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,5 +1,6 @@
 package com.bookaro.model;
 
+import com.bookaro.catalog.FavoriteEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,6 +10,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(FavoriteEntityListener.class)
 @Table(name = "favorites", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"user_id", "service_id"})
 })
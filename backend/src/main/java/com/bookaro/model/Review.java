@@ -1,5 +1,6 @@
 package com.bookaro.model;
 
+import com.bookaro.catalog.CatalogRelatedEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,7 +23,7 @@ import java.time.LocalDateTime;
 }, uniqueConstraints = {
     @UniqueConstraint(name = "uk_booking_review", columnNames = "booking_id")
 })
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, CatalogRelatedEntityListener.class})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
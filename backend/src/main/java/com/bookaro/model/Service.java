@@ -1,16 +1,22 @@
 package com.bookaro.model;
 
+import com.bookaro.catalog.RankingScore;
+import com.bookaro.catalog.ServiceEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 /**
  * Service Entity - Represents services offered by vendors
@@ -19,9 +25,19 @@ import java.time.LocalDateTime;
 @Table(name = "services", indexes = {
     @Index(name = "idx_vendor_id", columnList = "vendor_id"),
     @Index(name = "idx_category", columnList = "category"),
-    @Index(name = "idx_is_available", columnList = "is_available")
+    @Index(name = "idx_is_available", columnList = "is_available"),
+    @Index(name = "idx_service_location", columnList = "latitude, longitude"),
+    @Index(name = "idx_service_available_rating", columnList = "is_available, average_rating DESC, id DESC"),
+    @Index(name = "idx_service_available_price", columnList = "is_available, price, id"),
+    @Index(name = "idx_service_updated", columnList = "updated_at, id"),
+    @Index(name = "idx_service_available_score", columnList = "is_available, ranking_score DESC, id DESC"),
+    @Index(name = "idx_service_category_key", columnList = "category_key, is_available, ranking_score DESC, id DESC"),
+    @Index(name = "idx_service_city_key", columnList = "city_key, is_available, ranking_score DESC, id DESC"),
+    @Index(name = "idx_service_category_city_key", columnList = "category_key, city_key, is_available, ranking_score DESC, id DESC")
 })
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, ServiceEntityListener.class})
+// Saves write only changed columns, so a review update cannot roll back booking counts written meanwhile
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -57,6 +73,13 @@ public class Service {
     @Column(length = 100)
     private String city;
 
+    // Trimmed, lower-cased copies of category and city for exact, index-backed filtering
+    @Column(name = "category_key", length = 50)
+    private String categoryKey;
+
+    @Column(name = "city_key", length = 100)
+    private String cityKey;
+
     @Column(length = 100)
     private String state;
 
@@ -81,6 +104,18 @@ public class Service {
     @Builder.Default
     private Integer totalReviews = 0;
 
+    @Column(name = "total_bookings")
+    @Builder.Default
+    private Integer totalBookings = 0;
+
+    @Column(name = "last_booked_at")
+    private LocalDateTime lastBookedAt;
+
+    // Default catalog ordering, see RankingScore; kept current on every save
+    @Column(name = "ranking_score", precision = 7, scale = 4)
+    @Builder.Default
+    private BigDecimal rankingScore = BigDecimal.ZERO;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -88,5 +123,27 @@ public class Service {
     @LastModifiedDate
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    // Lookup-relevant state as last loaded or written, used to detect lookup list changes
+    @Transient
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String loadedLookupKey;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        categoryKey = normalizeKey(category);
+        cityKey = normalizeKey(city);
+        refreshRankingScore(LocalDateTime.now());
+    }
+
+    public void refreshRankingScore(LocalDateTime now) {
+        rankingScore = RankingScore.of(this, now);
+    }
+
+    public static String normalizeKey(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
 }
 
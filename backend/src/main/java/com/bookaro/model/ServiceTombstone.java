@@ -0,0 +1,40 @@
+package com.bookaro.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Record of a deleted Service row, kept so the catalog change feed can report removals
+ */
+@Entity
+@Table(name = "service_tombstones", indexes = {
+    @Index(name = "idx_tombstone_deleted", columnList = "deleted_at, service_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ServiceTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "service_id", nullable = false)
+    private Long serviceId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (deletedAt == null) {
+            deletedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.bookaro.model;
 
+import com.bookaro.catalog.CatalogRelatedEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,7 +26,7 @@ import java.util.List;
     @Index(name = "idx_vendor_category", columnList = "primary_category"),
     @Index(name = "idx_vendor_active", columnList = "is_active")
 })
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, CatalogRelatedEntityListener.class})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
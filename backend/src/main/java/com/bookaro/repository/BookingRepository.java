@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +25,12 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     Page<Booking> findByServiceVendorId(Long vendorId, Pageable pageable);
 
     Page<Booking> findByUserIdAndStatus(Long userId, BookingStatus status, Pageable pageable);
+
+    long countByServiceIdAndStatusNot(Long serviceId, BookingStatus status);
+
+    @Query("SELECT MAX(b.createdAt) FROM Booking b WHERE b.service.id = :serviceId AND b.status <> :status")
+    LocalDateTime findLastCreatedAtByServiceIdAndStatusNot(@Param("serviceId") Long serviceId,
+                                                           @Param("status") BookingStatus status);
     
     // Custom queries with JOIN FETCH to avoid lazy loading issues
     @Query("SELECT b FROM Booking b " +
@@ -67,5 +74,11 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
            "LEFT JOIN FETCH b.address " +
            "WHERE b.id = :id")
     Optional<Booking> findByIdWithDetails(@Param("id") Long id);
-}
 
+    /**
+     * (userId, serviceId) pairs of bookings in the given status last updated after the given time
+     */
+    @Query("SELECT b.user.id, b.service.id FROM Booking b WHERE b.status = :status AND b.updatedAt > :since")
+    List<Object[]> findUserServicePairsByStatusUpdatedAfter(@Param("status") BookingStatus status,
+                                                             @Param("since") LocalDateTime since);
+}
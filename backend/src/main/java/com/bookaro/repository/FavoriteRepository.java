@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,4 +27,10 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     boolean existsByUserAndService(User user, Service service);
     
     void deleteByUserAndService(User user, Service service);
+
+    /**
+     * (userId, serviceId) pairs favorited after the given time
+     */
+    @Query("SELECT f.user.id, f.service.id FROM Favorite f WHERE f.createdAt > :since")
+    List<Object[]> findUserServicePairsCreatedAfter(@Param("since") LocalDateTime since);
 }
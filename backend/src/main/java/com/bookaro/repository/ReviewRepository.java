@@ -47,4 +47,7 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     Double findAverageRatingByServiceId(@Param("serviceId") Long serviceId);
     
     Long countByServiceId(Long serviceId);
+
+    @Query("SELECT r.service.vendor.id FROM Review r WHERE r.id = :id")
+    Optional<Long> findVendorIdById(@Param("id") Long id);
 }
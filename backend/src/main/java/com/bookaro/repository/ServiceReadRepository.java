@@ -0,0 +1,48 @@
+package com.bookaro.repository;
+
+import com.bookaro.dto.FieldSelection;
+import com.bookaro.dto.ServiceDto;
+import com.bookaro.model.Service;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-only projection queries for service listings.
+ * Each query selects exactly the ServiceDto and VendorInfoDto columns from one
+ * services-vendors join, so no entities are hydrated and no lazy vendor loads follow.
+ */
+public interface ServiceReadRepository {
+
+    List<ServiceDto> findDtos(Specification<Service> spec, Sort sort);
+
+    List<ServiceDto> findDtos(Specification<Service> spec, Sort sort, int limit);
+
+    /**
+     * Like findDtos, but selects only the columns of the requested fields; unselected
+     * properties are left null and the vendor join is skipped when no vendor field is wanted
+     */
+    List<ServiceDto> findDtos(Specification<Service> spec, Sort sort, int limit, FieldSelection fields);
+
+    Page<ServiceDto> findDtoPage(Specification<Service> spec, Pageable pageable);
+
+    Page<ServiceDto> findDtoPage(Specification<Service> spec, Pageable pageable, FieldSelection fields);
+
+    Slice<ServiceDto> findDtoSlice(Specification<Service> spec, Pageable pageable);
+
+    Slice<ServiceDto> findDtoSlice(Specification<Service> spec, Pageable pageable, FieldSelection fields);
+
+    Optional<ServiceDto> findDtoById(Long id);
+
+    /**
+     * Favorite services of a user, most recently favorited first
+     */
+    List<ServiceDto> findFavoriteDtos(Long userId);
+
+    List<ServiceDto> findFavoriteDtos(Long userId, FieldSelection fields);
+}
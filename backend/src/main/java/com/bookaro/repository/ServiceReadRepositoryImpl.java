@@ -0,0 +1,333 @@
+package com.bookaro.repository;
+
+import com.bookaro.dto.FieldSelection;
+import com.bookaro.dto.ServiceDto;
+import com.bookaro.dto.VendorInfoDto;
+import com.bookaro.model.Favorite;
+import com.bookaro.model.Service;
+import com.bookaro.model.Vendor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+@Transactional(readOnly = true)
+public class ServiceReadRepositoryImpl implements ServiceReadRepository {
+
+    private static final int NO_LIMIT = -1;
+    private static final Map<String, BiConsumer<ServiceDto, Object>> SERVICE_SETTERS = serviceSetters();
+    private static final Map<String, BiConsumer<VendorInfoDto, Object>> VENDOR_SETTERS = vendorSetters();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ServiceDto> findDtos(Specification<Service> spec, Sort sort) {
+        return fetch(spec, sort, 0, NO_LIMIT, FieldSelection.ALL);
+    }
+
+    @Override
+    public List<ServiceDto> findDtos(Specification<Service> spec, Sort sort, int limit) {
+        return fetch(spec, sort, 0, limit, FieldSelection.ALL);
+    }
+
+    @Override
+    public List<ServiceDto> findDtos(Specification<Service> spec, Sort sort, int limit, FieldSelection fields) {
+        return fetch(spec, sort, 0, limit, fields);
+    }
+
+    @Override
+    public Page<ServiceDto> findDtoPage(Specification<Service> spec, Pageable pageable) {
+        return findDtoPage(spec, pageable, FieldSelection.ALL);
+    }
+
+    @Override
+    public Page<ServiceDto> findDtoPage(Specification<Service> spec, Pageable pageable, FieldSelection fields) {
+        List<ServiceDto> content = fetch(spec, pageable.getSort(), (int) pageable.getOffset(),
+                pageable.getPageSize(), fields);
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Slice<ServiceDto> findDtoSlice(Specification<Service> spec, Pageable pageable) {
+        return findDtoSlice(spec, pageable, FieldSelection.ALL);
+    }
+
+    @Override
+    public Slice<ServiceDto> findDtoSlice(Specification<Service> spec, Pageable pageable, FieldSelection fields) {
+        List<ServiceDto> content = fetch(spec, pageable.getSort(), (int) pageable.getOffset(),
+                pageable.getPageSize() + 1, fields);
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public Optional<ServiceDto> findDtoById(Long id) {
+        Specification<Service> byId = (root, query, cb) -> cb.equal(root.get("id"), id);
+        return fetch(byId, Sort.unsorted(), 0, 1, FieldSelection.ALL).stream().findFirst();
+    }
+
+    @Override
+    public List<ServiceDto> findFavoriteDtos(Long userId) {
+        return findFavoriteDtos(userId, FieldSelection.ALL);
+    }
+
+    @Override
+    public List<ServiceDto> findFavoriteDtos(Long userId, FieldSelection fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        if (fields.isAll()) {
+            CriteriaQuery<ServiceDto> query = cb.createQuery(ServiceDto.class);
+            Root<Favorite> favorite = query.from(Favorite.class);
+            Join<Favorite, Service> service = favorite.join("service");
+            Join<Service, Vendor> vendor = service.join("vendor", JoinType.LEFT);
+
+            query.select(cb.construct(ServiceDto.class, selections(service, vendor)))
+                    .where(cb.equal(favorite.get("user").get("id"), userId))
+                    .orderBy(cb.desc(favorite.get("createdAt")));
+            return readOnly(entityManager.createQuery(query)).getResultList();
+        }
+
+        SparseColumns columns = SparseColumns.of(fields);
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Favorite> favorite = query.from(Favorite.class);
+        Join<Favorite, Service> service = favorite.join("service");
+
+        query.multiselect(columns.selections(service))
+                .where(cb.equal(favorite.get("user").get("id"), userId))
+                .orderBy(cb.desc(favorite.get("createdAt")));
+        return readOnly(entityManager.createQuery(query)).getResultStream()
+                .map(columns::toDto)
+                .collect(Collectors.toList());
+    }
+
+    private List<ServiceDto> fetch(Specification<Service> spec, Sort sort, int first, int max, FieldSelection fields) {
+        if (fields.isAll()) {
+            return limit(dtoQuery(spec, sort), first, max).getResultList();
+        }
+        SparseColumns columns = SparseColumns.of(fields);
+        return limit(tupleQuery(spec, sort, columns), first, max).getResultStream()
+                .map(columns::toDto)
+                .collect(Collectors.toList());
+    }
+
+    private TypedQuery<ServiceDto> dtoQuery(Specification<Service> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ServiceDto> query = cb.createQuery(ServiceDto.class);
+        Root<Service> root = query.from(Service.class);
+        Join<Service, Vendor> vendor = root.join("vendor", JoinType.LEFT);
+
+        query.select(cb.construct(ServiceDto.class, selections(root, vendor)));
+        applySpecAndSort(query, root, cb, spec, sort);
+        return readOnly(entityManager.createQuery(query));
+    }
+
+    // Selects only the requested columns, and joins vendors only when a vendor field is requested
+    private TypedQuery<Tuple> tupleQuery(Specification<Service> spec, Sort sort, SparseColumns columns) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Service> root = query.from(Service.class);
+
+        query.multiselect(columns.selections(root));
+        applySpecAndSort(query, root, cb, spec, sort);
+        return readOnly(entityManager.createQuery(query));
+    }
+
+    private static void applySpecAndSort(CriteriaQuery<?> query, Root<Service> root, CriteriaBuilder cb,
+                                         Specification<Service> spec, Sort sort) {
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+    }
+
+    private static <T> TypedQuery<T> limit(TypedQuery<T> query, int first, int max) {
+        query.setFirstResult(first);
+        if (max != NO_LIMIT) {
+            query.setMaxResults(max);
+        }
+        return query;
+    }
+
+    private long count(Specification<Service> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Service> root = query.from(Service.class);
+
+        query.select(cb.count(root));
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return readOnly(entityManager.createQuery(query)).getSingleResult();
+    }
+
+    // Argument order matches the flat ServiceDto projection constructor
+    private static Selection<?>[] selections(From<?, Service> service, From<?, Vendor> vendor) {
+        return new Selection<?>[] {
+                service.get("id"),
+                service.get("serviceName"),
+                service.get("description"),
+                service.get("category"),
+                service.get("price"),
+                service.get("durationMinutes"),
+                service.get("address"),
+                service.get("city"),
+                service.get("state"),
+                service.get("postalCode"),
+                service.get("latitude"),
+                service.get("longitude"),
+                service.get("isAvailable"),
+                service.get("averageRating"),
+                service.get("totalReviews"),
+                service.get("rankingScore"),
+                service.get("updatedAt"),
+                vendor.get("id"),
+                vendor.get("vendorCode"),
+                vendor.get("businessName"),
+                vendor.get("primaryCategory"),
+                vendor.get("phone"),
+                vendor.get("email"),
+                vendor.get("location"),
+                vendor.get("availability"),
+                vendor.get("yearsOfExperience"),
+                vendor.get("averageRating"),
+                vendor.get("totalReviews"),
+                vendor.get("isVerified")
+        };
+    }
+
+    private static <T> TypedQuery<T> readOnly(TypedQuery<T> query) {
+        return query.setHint(HibernateHints.HINT_READ_ONLY, true);
+    }
+
+    /**
+     * Service and vendor columns chosen for a sparse fieldset, in select order.
+     * The service id is always selected, and the vendor id whenever a vendor field is,
+     * so rows stay identifiable and a missing vendor maps to null. A selected vendorId
+     * reads the foreign key column without joining vendors.
+     */
+    private record SparseColumns(List<String> serviceFields, boolean vendorId, List<String> vendorFields) {
+
+        static SparseColumns of(FieldSelection fields) {
+            List<String> serviceFields = new ArrayList<>();
+            SERVICE_SETTERS.keySet().stream()
+                    .filter(name -> name.equals("id") || fields.includes(name))
+                    .forEach(serviceFields::add);
+            List<String> vendorFields = new ArrayList<>();
+            if (fields.includes("vendor")) {
+                VENDOR_SETTERS.keySet().stream()
+                        .filter(name -> name.equals("id") || fields.includes("vendor." + name))
+                        .forEach(vendorFields::add);
+            }
+            return new SparseColumns(serviceFields, fields.includes("vendorId"), vendorFields);
+        }
+
+        List<Selection<?>> selections(From<?, Service> service) {
+            List<Selection<?>> selections = new ArrayList<>();
+            serviceFields.forEach(name -> selections.add(service.get(name)));
+            if (vendorId) {
+                selections.add(service.get("vendor").get("id"));
+            }
+            if (!vendorFields.isEmpty()) {
+                Join<Service, Vendor> vendor = service.join("vendor", JoinType.LEFT);
+                vendorFields.forEach(name -> selections.add(vendor.get(name)));
+            }
+            return selections;
+        }
+
+        ServiceDto toDto(Tuple tuple) {
+            ServiceDto dto = new ServiceDto();
+            int column = 0;
+            for (String name : serviceFields) {
+                SERVICE_SETTERS.get(name).accept(dto, tuple.get(column++));
+            }
+            if (vendorId) {
+                dto.setVendorId((Long) tuple.get(column++));
+            }
+            if (!vendorFields.isEmpty() && tuple.get(column) != null) {
+                VendorInfoDto vendor = new VendorInfoDto();
+                for (String name : vendorFields) {
+                    VENDOR_SETTERS.get(name).accept(vendor, tuple.get(column++));
+                }
+                dto.setVendor(vendor);
+            }
+            return dto;
+        }
+    }
+
+    // Keys are both the Service attribute and the ServiceDto property name
+    private static Map<String, BiConsumer<ServiceDto, Object>> serviceSetters() {
+        Map<String, BiConsumer<ServiceDto, Object>> setters = new LinkedHashMap<>();
+        setters.put("id", (dto, value) -> dto.setId((Long) value));
+        setters.put("serviceName", (dto, value) -> dto.setServiceName((String) value));
+        setters.put("description", (dto, value) -> dto.setDescription((String) value));
+        setters.put("category", (dto, value) -> dto.setCategory((String) value));
+        setters.put("price", (dto, value) -> dto.setPrice((BigDecimal) value));
+        setters.put("durationMinutes", (dto, value) -> dto.setDurationMinutes((Integer) value));
+        setters.put("address", (dto, value) -> dto.setAddress((String) value));
+        setters.put("city", (dto, value) -> dto.setCity((String) value));
+        setters.put("state", (dto, value) -> dto.setState((String) value));
+        setters.put("postalCode", (dto, value) -> dto.setPostalCode((String) value));
+        setters.put("latitude", (dto, value) -> dto.setLatitude((Double) value));
+        setters.put("longitude", (dto, value) -> dto.setLongitude((Double) value));
+        setters.put("isAvailable", (dto, value) -> dto.setIsAvailable((Boolean) value));
+        setters.put("averageRating", (dto, value) -> dto.setAverageRating((BigDecimal) value));
+        setters.put("totalReviews", (dto, value) -> dto.setTotalReviews((Integer) value));
+        setters.put("rankingScore", (dto, value) -> dto.setRankingScore((BigDecimal) value));
+        setters.put("updatedAt", (dto, value) -> dto.setUpdatedAt((LocalDateTime) value));
+        return setters;
+    }
+
+    // Keys are both the Vendor attribute and the VendorInfoDto property name
+    private static Map<String, BiConsumer<VendorInfoDto, Object>> vendorSetters() {
+        Map<String, BiConsumer<VendorInfoDto, Object>> setters = new LinkedHashMap<>();
+        setters.put("id", (dto, value) -> dto.setId((Long) value));
+        setters.put("vendorCode", (dto, value) -> dto.setVendorCode((String) value));
+        setters.put("businessName", (dto, value) -> dto.setBusinessName((String) value));
+        setters.put("primaryCategory", (dto, value) -> dto.setPrimaryCategory((String) value));
+        setters.put("phone", (dto, value) -> dto.setPhone((String) value));
+        setters.put("email", (dto, value) -> dto.setEmail((String) value));
+        setters.put("location", (dto, value) -> dto.setLocation((String) value));
+        setters.put("availability", (dto, value) -> dto.setAvailability((String) value));
+        setters.put("yearsOfExperience", (dto, value) -> dto.setYearsOfExperience((Integer) value));
+        setters.put("averageRating", (dto, value) -> dto.setAverageRating((BigDecimal) value));
+        setters.put("totalReviews", (dto, value) -> dto.setTotalReviews((Integer) value));
+        setters.put("isVerified", (dto, value) -> dto.setIsVerified((Boolean) value));
+        return setters;
+    }
+}
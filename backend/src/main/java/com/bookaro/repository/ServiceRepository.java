@@ -3,18 +3,25 @@ package com.bookaro.repository;
 import com.bookaro.model.Service;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * Service Repository - Data access layer for Service entity
  */
 @Repository
-public interface ServiceRepository extends JpaRepository<Service, Long> {
+public interface ServiceRepository extends JpaRepository<Service, Long>, JpaSpecificationExecutor<Service>,
+        ServiceReadRepository {
 
     Page<Service> findByIsAvailableTrue(Pageable pageable);
 
@@ -26,9 +33,6 @@ public interface ServiceRepository extends JpaRepository<Service, Long> {
 
     Page<Service> findByAddressContainingIgnoreCaseAndIsAvailableTrue(String location, Pageable pageable);
 
-    Page<Service> findByServiceNameContainingIgnoreCaseOrDescriptionContainingIgnoreCaseAndIsAvailableTrue(
-            String serviceName, String description, Pageable pageable);
-
     @Query("SELECT s FROM Service s WHERE s.isAvailable = true AND " +
            "(:category IS NULL OR s.category = :category) AND " +
            "(:city IS NULL OR s.city = :city)")
@@ -48,27 +52,33 @@ public interface ServiceRepository extends JpaRepository<Service, Long> {
     @Query("SELECT s FROM Service s WHERE s.vendor.id = :vendorId")
     List<Service> findAllByVendorId(@Param("vendorId") Long vendorId);
     
-    @Query("SELECT s FROM Service s WHERE s.isAvailable = true AND " +
-           "(:category IS NULL OR CAST(s.category AS string) LIKE UPPER(:category)) AND " +
-           "(:city IS NULL OR LOWER(s.city) LIKE LOWER(CONCAT('%', :city, '%'))) AND " +
-           "(:location IS NULL OR LOWER(s.address) LIKE LOWER(CONCAT('%', :location, '%'))) AND " +
-           "(:minPrice IS NULL OR s.price >= :minPrice) AND " +
-           "(:maxPrice IS NULL OR s.price <= :maxPrice) AND " +
-           "(:minRating IS NULL OR s.averageRating >= :minRating)")
-    Page<Service> advancedSearch(
-            @Param("category") String category,
-            @Param("city") String city,
-            @Param("location") String location,
-            @Param("minPrice") java.math.BigDecimal minPrice,
-            @Param("maxPrice") java.math.BigDecimal maxPrice,
-            @Param("minRating") java.math.BigDecimal minRating,
-            Pageable pageable);
-    
     @Query("SELECT DISTINCT s.city FROM Service s WHERE s.isAvailable = true ORDER BY s.city")
     List<String> findDistinctCities();
     
+    List<Service> findByLastBookedAtAfter(java.time.LocalDateTime since);
+
+    /**
+     * Writes only the booking inputs and the score derived from them, without entity callbacks
+     * or a CatalogChangeEvent. Matches nothing, and returns 0, when the rating inputs the score
+     * was computed from have changed since they were read.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Service s SET s.totalBookings = :totalBookings, s.lastBookedAt = :lastBookedAt, " +
+           "s.rankingScore = :rankingScore WHERE s.id = :id " +
+           "AND COALESCE(s.averageRating, 0) = :averageRating AND COALESCE(s.totalReviews, 0) = :totalReviews")
+    int updateBookingStats(@Param("id") Long id,
+                           @Param("totalBookings") Integer totalBookings,
+                           @Param("lastBookedAt") LocalDateTime lastBookedAt,
+                           @Param("rankingScore") BigDecimal rankingScore,
+                           @Param("averageRating") BigDecimal averageRating,
+                           @Param("totalReviews") Integer totalReviews);
+
     @Query("SELECT s FROM Service s LEFT JOIN FETCH s.vendor WHERE s.id = :id")
     java.util.Optional<Service> findByIdWithVendor(@Param("id") Long id);
+
+    @Query("SELECT s.vendor.id FROM Service s WHERE s.id = :id")
+    java.util.Optional<Long> findVendorIdById(@Param("id") Long id);
 }
 
 
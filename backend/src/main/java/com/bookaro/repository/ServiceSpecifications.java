@@ -0,0 +1,117 @@
+package com.bookaro.repository;
+
+import com.bookaro.catalog.CatalogQuery;
+import com.bookaro.model.Service;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * JPA Specifications for catalog queries on the Service entity.
+ * Only the filters actually supplied become predicates, so each filter shape gets its own
+ * plan; exact category and city matches go through the indexed normalized key columns.
+ */
+public final class ServiceSpecifications {
+
+    private ServiceSpecifications() {
+    }
+
+    /**
+     * Available services matching the filters of a catalog query
+     */
+    public static Specification<Service> matching(CatalogQuery query) {
+        return (root, criteriaQuery, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.isTrue(root.get("isAvailable")));
+
+            if (hasText(query.getCategory())) {
+                predicates.add(cb.equal(root.get("categoryKey"), Service.normalizeKey(query.getCategory())));
+            }
+            if (hasText(query.getCity())) {
+                predicates.add(cb.equal(root.get("cityKey"), Service.normalizeKey(query.getCity())));
+            }
+            if (hasText(query.getLocation())) {
+                predicates.add(cb.like(cb.lower(root.get("address")), "%" + query.getLocation().trim().toLowerCase(Locale.ROOT) + "%"));
+            }
+            if (query.getMinPrice() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("price"), query.getMinPrice()));
+            }
+            if (query.getMaxPrice() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("price"), query.getMaxPrice()));
+            }
+            if (query.getMinRating() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("averageRating"), query.getMinRating()));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    public static Specification<Service> available() {
+        return (root, criteriaQuery, cb) -> cb.isTrue(root.get("isAvailable"));
+    }
+
+    /**
+     * Available services whose name or description contains the keyword
+     */
+    public static Specification<Service> keyword(String keyword) {
+        String pattern = "%" + keyword.toLowerCase(Locale.ROOT) + "%";
+        return available().and((root, criteriaQuery, cb) -> cb.or(
+                cb.like(cb.lower(root.get("serviceName")), pattern),
+                cb.like(cb.lower(root.get("description")), pattern)));
+    }
+
+    /**
+     * Available services inside a latitude/longitude bounding box
+     */
+    public static Specification<Service> withinBounds(double minLat, double maxLat, double minLng, double maxLng) {
+        return available().and((root, criteriaQuery, cb) -> cb.and(
+                cb.between(root.get("latitude"), minLat, maxLat),
+                cb.between(root.get("longitude"), minLng, maxLng)));
+    }
+
+    /**
+     * Keyset seek predicate: rows strictly after (value, id) in the given sort order
+     */
+    public static Specification<Service> seekAfter(String sortBy, boolean descending, BigDecimal value, Long id) {
+        return (root, criteriaQuery, cb) -> {
+            Expression<BigDecimal> sortPath = root.get(sortBy);
+            Expression<Long> idPath = root.get("id");
+            Predicate beyond = descending ? cb.lessThan(sortPath, value) : cb.greaterThan(sortPath, value);
+            Predicate tieBreak = descending ? cb.lessThan(idPath, id) : cb.greaterThan(idPath, id);
+            return cb.or(beyond, cb.and(cb.equal(sortPath, value), tieBreak));
+        };
+    }
+
+    /**
+     * All services, available or not, changed strictly after (updatedAt, id) and no later than until
+     */
+    public static Specification<Service> changedAfter(LocalDateTime updatedAt, Long id, LocalDateTime until) {
+        return (root, criteriaQuery, cb) -> {
+            Expression<LocalDateTime> changedAt = root.get("updatedAt");
+            Expression<Long> idPath = root.get("id");
+            return cb.and(
+                    cb.or(cb.greaterThan(changedAt, updatedAt),
+                            cb.and(cb.equal(changedAt, updatedAt), cb.greaterThan(idPath, id))),
+                    cb.lessThanOrEqualTo(changedAt, until));
+        };
+    }
+
+    /**
+     * Services with any of the ids, available or not
+     */
+    public static Specification<Service> idIn(Collection<Long> ids) {
+        return (root, criteriaQuery, cb) -> root.get("id").in(ids);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+}
@@ -0,0 +1,25 @@
+package com.bookaro.repository;
+
+import com.bookaro.model.ServiceTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ServiceTombstoneRepository extends JpaRepository<ServiceTombstone, Long> {
+
+    // Tombstones strictly after (deletedAt, serviceId) and no later than until, in feed order
+    @Query("SELECT t FROM ServiceTombstone t WHERE " +
+           "(t.deletedAt > :deletedAt OR (t.deletedAt = :deletedAt AND t.serviceId > :serviceId)) AND " +
+           "t.deletedAt <= :until " +
+           "ORDER BY t.deletedAt, t.serviceId")
+    List<ServiceTombstone> findAfter(@Param("deletedAt") LocalDateTime deletedAt,
+                                     @Param("serviceId") Long serviceId,
+                                     @Param("until") LocalDateTime until,
+                                     Pageable pageable);
+}
@@ -1,5 +1,6 @@
 package com.bookaro.repository;
 
+import com.bookaro.dto.VendorInfoDto;
 import com.bookaro.model.Vendor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -33,6 +36,11 @@ public interface VendorRepository extends JpaRepository<Vendor, Long> {
      */
     Page<Vendor> findByIsActiveTrue(Pageable pageable);
 
+    /**
+     * All active vendors, for the in-memory vendor directory
+     */
+    List<Vendor> findAllByIsActiveTrue();
+
     /**
      * Find verified vendors
      */
@@ -58,6 +66,20 @@ public interface VendorRepository extends JpaRepository<Vendor, Long> {
      */
     Page<Vendor> findByCityIgnoreCase(String city, Pageable pageable);
 
+    /**
+     * Vendor with all of its services, fetched in one joined query
+     */
+    @Query("SELECT v FROM Vendor v LEFT JOIN FETCH v.services WHERE v.id = :id")
+    Optional<Vendor> findByIdWithServices(@Param("id") Long id);
+
+    /**
+     * Listing-level vendor info for a batch of ids, read in one IN query without loading entities
+     */
+    @Query("SELECT new com.bookaro.dto.VendorInfoDto(v.id, v.vendorCode, v.businessName, v.primaryCategory, " +
+           "v.phone, v.email, v.location, v.availability, v.yearsOfExperience, v.averageRating, " +
+           "v.totalReviews, v.isVerified) FROM Vendor v WHERE v.id IN :ids")
+    List<VendorInfoDto> findInfoByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Count active vendors
      */
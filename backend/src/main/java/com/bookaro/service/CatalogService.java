@@ -0,0 +1,184 @@
+package com.bookaro.service;
+
+import com.bookaro.catalog.CatalogCountCache;
+import com.bookaro.catalog.CatalogCursor;
+import com.bookaro.catalog.CatalogQuery;
+import com.bookaro.catalog.ChangeCursor;
+import com.bookaro.catalog.CursorPage;
+import com.bookaro.dto.CatalogChangesDto;
+import com.bookaro.dto.FieldSelection;
+import com.bookaro.dto.ServiceChangeDto;
+import com.bookaro.dto.ServiceDto;
+import com.bookaro.model.Service;
+import com.bookaro.model.ServiceTombstone;
+import com.bookaro.repository.ServiceRepository;
+import com.bookaro.repository.ServiceSpecifications;
+import com.bookaro.repository.ServiceTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Database read path for catalog listings, used when the in-memory engine cannot answer
+ */
+@org.springframework.stereotype.Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CatalogService {
+
+    private static final Comparator<ChangeCursor> FEED_ORDER =
+            Comparator.comparing(ChangeCursor::getChangedAt).thenComparing(ChangeCursor::getServiceId);
+
+    private final ServiceRepository serviceRepository;
+    private final ServiceTombstoneRepository tombstoneRepository;
+    private final CatalogCountCache countCache;
+
+    // Changes younger than this are held back so slower concurrent commits can't slip behind a cursor
+    @Value("${catalog.changes.settle-seconds:5}")
+    private long changesSettleSeconds;
+
+    public Page<ServiceDto> findServices(CatalogQuery query) {
+        Pageable pageable = query.toPageable();
+
+        // A recent total for the same filters lets us skip the COUNT(*) query
+        Long cachedTotal = countCache.get(query);
+        if (cachedTotal != null) {
+            return new PageImpl<>(findServiceSlice(query).getContent(), pageable, cachedTotal);
+        }
+
+        Page<ServiceDto> servicesPage = serviceRepository.findDtoPage(ServiceSpecifications.matching(query), pageable,
+                query.getFields());
+        countCache.put(query, servicesPage.getTotalElements());
+        return servicesPage;
+    }
+
+    /**
+     * Page without a total: the query fetches size + 1 rows and no count is issued
+     */
+    public Slice<ServiceDto> findServiceSlice(CatalogQuery query) {
+        return serviceRepository.findDtoSlice(ServiceSpecifications.matching(query), query.toPageable(),
+                query.getFields());
+    }
+
+    /**
+     * Keyset page using a seek predicate on (sortBy, id) instead of an offset
+     */
+    public CursorPage scrollServices(CatalogQuery query, CatalogCursor after) {
+        Sort.Direction direction = query.isDescending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = Sort.by(direction, query.getSortBy()).and(Sort.by(direction, "id"));
+
+        Specification<Service> spec = ServiceSpecifications.matching(query);
+        if (after != null) {
+            spec = spec.and(ServiceSpecifications.seekAfter(
+                    query.getSortBy(), query.isDescending(), after.getSortValue(), after.getId()));
+        }
+
+        // One extra row tells us whether another page exists
+        // The next cursor is built from the last row's sort value, so that column is always read
+        List<ServiceDto> rows = serviceRepository.findDtos(spec, sort, query.getSize() + 1,
+                query.getFields().with(query.getSortBy()));
+        boolean hasNext = rows.size() > query.getSize();
+        List<ServiceDto> content = hasNext ? rows.subList(0, query.getSize()) : rows;
+
+        String nextCursor = hasNext
+                ? CatalogCursor.after(content.get(content.size() - 1), query.getSortBy(), query.isDescending()).encode()
+                : null;
+        return new CursorPage(List.copyOf(content), nextCursor);
+    }
+
+    public Page<ServiceDto> searchServices(String keyword, String category, String city, int page, int size,
+                                           FieldSelection fields) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("rankingScore").descending());
+
+        // Also the fallback while SearchIndex builds, so the keyword must narrow the filters, not replace them
+        Specification<Service> spec = ServiceSpecifications.matching(
+                CatalogQuery.builder().category(category).city(city).build());
+        if (keyword != null && !keyword.isEmpty()) {
+            spec = spec.and(ServiceSpecifications.keyword(keyword));
+        }
+        return serviceRepository.findDtoPage(spec, pageable, fields);
+    }
+
+    /**
+     * Services changed and tombstones written after the cursor, merged in (changedAt, serviceId) order
+     */
+    public CatalogChangesDto findChanges(ChangeCursor since, int limit) {
+        LocalDateTime until = LocalDateTime.now().minusSeconds(changesSettleSeconds);
+        Sort feedOrder = Sort.by("updatedAt", "id");
+
+        List<ServiceDto> services = serviceRepository.findDtos(
+                ServiceSpecifications.changedAfter(since.getChangedAt(), since.getServiceId(), until),
+                feedOrder, limit + 1);
+        List<ServiceTombstone> tombstones = tombstoneRepository.findAfter(
+                since.getChangedAt(), since.getServiceId(), until, PageRequest.of(0, limit + 1));
+
+        List<ServiceChangeDto> changes = new ArrayList<>(limit);
+        int s = 0;
+        int t = 0;
+        while (changes.size() < limit && (s < services.size() || t < tombstones.size())) {
+            boolean takeService = t >= tombstones.size() || (s < services.size()
+                    && compare(services.get(s), tombstones.get(t)) < 0);
+            changes.add(takeService ? toChange(services.get(s++)) : toChange(tombstones.get(t++)));
+        }
+        boolean hasMore = s < services.size() || t < tombstones.size();
+
+        ChangeCursor next = changes.isEmpty()
+                ? since
+                : new ChangeCursor(changes.get(changes.size() - 1).getChangedAt(),
+                        changes.get(changes.size() - 1).getServiceId());
+        return CatalogChangesDto.builder()
+                .changes(changes)
+                .nextCursor(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    public Optional<ServiceDto> findServiceById(Long id) {
+        return serviceRepository.findDtoById(id);
+    }
+
+    /**
+     * Services with the given ids, read with their vendors in one joined IN query
+     */
+    public List<ServiceDto> findServicesByIds(Collection<Long> ids) {
+        return serviceRepository.findDtos(ServiceSpecifications.idIn(ids), Sort.unsorted());
+    }
+
+    private static int compare(ServiceDto service, ServiceTombstone tombstone) {
+        return FEED_ORDER.compare(new ChangeCursor(service.getUpdatedAt(), service.getId()),
+                new ChangeCursor(tombstone.getDeletedAt(), tombstone.getServiceId()));
+    }
+
+    private static ServiceChangeDto toChange(ServiceDto service) {
+        return ServiceChangeDto.builder()
+                .type(Boolean.TRUE.equals(service.getIsAvailable())
+                        ? ServiceChangeDto.ChangeType.UPSERTED
+                        : ServiceChangeDto.ChangeType.UNAVAILABLE)
+                .serviceId(service.getId())
+                .changedAt(service.getUpdatedAt())
+                .service(service)
+                .build();
+    }
+
+    private static ServiceChangeDto toChange(ServiceTombstone tombstone) {
+        return ServiceChangeDto.builder()
+                .type(ServiceChangeDto.ChangeType.DELETED)
+                .serviceId(tombstone.getServiceId())
+                .changedAt(tombstone.getDeletedAt())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.bookaro.service;
 
+import com.bookaro.dto.FieldSelection;
 import com.bookaro.dto.ServiceDto;
 import com.bookaro.exception.ResourceNotFoundException;
 import com.bookaro.model.Favorite;
@@ -12,7 +13,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @org.springframework.stereotype.Service
 @RequiredArgsConstructor
@@ -23,14 +23,11 @@ public class FavoriteService {
     private final ServiceRepository serviceRepository;
     private final UserRepository userRepository;
 
-    public List<ServiceDto> getFavoriteServices(String userEmail) {
+    public List<ServiceDto> getFavoriteServices(String userEmail, FieldSelection fields) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        return favoriteRepository.findFavoriteServicesByUser(user)
-                .stream()
-                .map(ServiceDto::fromEntity)
-                .collect(Collectors.toList());
+        return serviceRepository.findFavoriteDtos(user.getId(), fields);
     }
 
     public ServiceDto addToFavorites(String userEmail, Long serviceId) {
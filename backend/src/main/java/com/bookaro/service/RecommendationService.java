@@ -0,0 +1,66 @@
+package com.bookaro.service;
+
+import com.bookaro.catalog.CatalogEngine;
+import com.bookaro.catalog.CooccurrenceIndex;
+import com.bookaro.dto.RecommendedServiceDto;
+import com.bookaro.dto.ServiceDto;
+import com.bookaro.exception.ResourceNotFoundException;
+import com.bookaro.model.User;
+import com.bookaro.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Booking-driven recommendations read from the co-occurrence index.
+ * Only available services are recommended, so more candidates than requested are scored
+ * and resolved through the in-memory catalog, falling back to one IN query.
+ */
+@org.springframework.stereotype.Service
+@RequiredArgsConstructor
+public class RecommendationService {
+
+    public static final int MAX_LIMIT = 50;
+    private static final int CANDIDATE_FACTOR = 2;
+
+    private final CooccurrenceIndex cooccurrenceIndex;
+    private final CatalogEngine catalogEngine;
+    private final CatalogService catalogService;
+    private final UserRepository userRepository;
+
+    public List<RecommendedServiceDto> alsoBooked(Long serviceId, int limit) {
+        return resolve(cooccurrenceIndex.alsoBooked(serviceId, limit * CANDIDATE_FACTOR), limit);
+    }
+
+    public List<RecommendedServiceDto> forUser(String userEmail, int limit) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return resolve(cooccurrenceIndex.forUser(user.getId(), limit * CANDIDATE_FACTOR), limit);
+    }
+
+    private List<RecommendedServiceDto> resolve(List<CooccurrenceIndex.Recommendation> candidates, int limit) {
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = candidates.stream().map(CooccurrenceIndex.Recommendation::serviceId).toList();
+        Map<Long, ServiceDto> found = new HashMap<>(catalogEngine.findByIds(ids));
+        List<Long> missing = ids.stream().filter(id -> !found.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            catalogService.findServicesByIds(missing).stream()
+                    .filter(service -> Boolean.TRUE.equals(service.getIsAvailable()))
+                    .forEach(service -> found.put(service.getId(), service));
+        }
+
+        return candidates.stream()
+                .map(candidate -> {
+                    ServiceDto service = found.get(candidate.serviceId());
+                    return service != null ? new RecommendedServiceDto(service, candidate.score()) : null;
+                })
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .toList();
+    }
+}
@@ -0,0 +1,45 @@
+package com.bookaro.service;
+
+import com.bookaro.catalog.CatalogEngine;
+import com.bookaro.catalog.TrendingIndex;
+import com.bookaro.dto.ServiceDto;
+import com.bookaro.dto.TrendingServiceDto;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Trending services read from the trending index and resolved through the in-memory
+ * catalog only; services missing from the snapshot (unavailable or not yet indexed) are
+ * skipped rather than looked up.
+ */
+@org.springframework.stereotype.Service
+@RequiredArgsConstructor
+public class TrendingService {
+
+    public static final int MAX_LIMIT = 50;
+
+    private final TrendingIndex trendingIndex;
+    private final CatalogEngine catalogEngine;
+
+    public List<TrendingServiceDto> trending(String city, String category, int limit) {
+        // Every heap member is a candidate, so unavailable services can be skipped without running short
+        List<TrendingIndex.Trend> candidates = trendingIndex.top(city, category, Integer.MAX_VALUE);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ServiceDto> found = catalogEngine.findLatestByIds(
+                candidates.stream().map(TrendingIndex.Trend::serviceId).toList());
+
+        return candidates.stream()
+                .map(candidate -> {
+                    ServiceDto service = found.get(candidate.serviceId());
+                    return service != null ? new TrendingServiceDto(service, candidate.score()) : null;
+                })
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .toList();
+    }
+}
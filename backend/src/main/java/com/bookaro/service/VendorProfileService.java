@@ -0,0 +1,107 @@
+package com.bookaro.service;
+
+import com.bookaro.dto.ServiceDto;
+import com.bookaro.dto.VendorProfileDto;
+import com.bookaro.model.Service;
+import com.bookaro.model.Vendor;
+import com.bookaro.repository.ServiceRepository;
+import com.bookaro.repository.VendorRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Assembles vendor profiles; callers go through VendorProfileCache
+ */
+@org.springframework.stereotype.Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class VendorProfileService {
+
+    // Catalog order: ranking score, then id, highest first
+    private static final Comparator<Service> CATALOG_ORDER = Comparator
+            .comparing((Service service) -> service.getRankingScore() != null ? service.getRankingScore() : BigDecimal.ZERO)
+            .thenComparing(Service::getId)
+            .reversed();
+
+    private final VendorRepository vendorRepository;
+    private final ServiceRepository serviceRepository;
+
+    public Optional<Long> findVendorIdByServiceId(Long serviceId) {
+        return serviceRepository.findVendorIdById(serviceId);
+    }
+
+    /**
+     * Vendor, available services and rating stats from a single vendor-services fetch join
+     */
+    public Optional<VendorProfileDto> buildProfile(Long vendorId) {
+        return vendorRepository.findByIdWithServices(vendorId).map(VendorProfileService::toProfile);
+    }
+
+    private static VendorProfileDto toProfile(Vendor vendor) {
+        List<Service> available = vendor.getServices().stream()
+                .filter(service -> Boolean.TRUE.equals(service.getIsAvailable()))
+                .sorted(CATALOG_ORDER)
+                .toList();
+
+        // The vendor is the same for every service, so services only reference it
+        List<ServiceDto> services = available.stream()
+                .map(service -> ServiceDto.fromEntity(service).withVendorReference())
+                .toList();
+
+        return VendorProfileDto.builder()
+                .id(vendor.getId())
+                .vendorCode(vendor.getVendorCode())
+                .businessName(vendor.getBusinessName())
+                .primaryCategory(vendor.getPrimaryCategory())
+                .contactPerson(vendor.getContactPerson())
+                .phone(vendor.getPhone())
+                .email(vendor.getEmail())
+                .location(vendor.getLocation())
+                .address(vendor.getAddress())
+                .city(vendor.getCity())
+                .state(vendor.getState())
+                .postalCode(vendor.getPostalCode())
+                .latitude(vendor.getLatitude())
+                .longitude(vendor.getLongitude())
+                .yearsOfExperience(vendor.getYearsOfExperience())
+                .availability(vendor.getAvailability())
+                .description(vendor.getDescription())
+                .isVerified(vendor.getIsVerified())
+                .memberSince(vendor.getCreatedAt())
+                .services(services)
+                .ratings(ratingStats(vendor, available))
+                .build();
+    }
+
+    private static VendorProfileDto.RatingStats ratingStats(Vendor vendor, List<Service> available) {
+        int totalReviews = 0;
+        int reviewedServices = 0;
+        BigDecimal ratingSum = BigDecimal.ZERO;
+        for (Service service : available) {
+            int reviews = service.getTotalReviews() != null ? service.getTotalReviews() : 0;
+            if (reviews > 0 && service.getAverageRating() != null) {
+                totalReviews += reviews;
+                reviewedServices++;
+                ratingSum = ratingSum.add(service.getAverageRating().multiply(BigDecimal.valueOf(reviews)));
+            }
+        }
+        BigDecimal servicesAverage = totalReviews > 0
+                ? ratingSum.divide(BigDecimal.valueOf(totalReviews), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+
+        return VendorProfileDto.RatingStats.builder()
+                .averageRating(vendor.getAverageRating())
+                .totalReviews(vendor.getTotalReviews())
+                .servicesAverageRating(servicesAverage)
+                .servicesTotalReviews(totalReviews)
+                .reviewedServices(reviewedServices)
+                .availableServices(available.size())
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.bookaro.service;
+
+import com.bookaro.dto.FieldSelection;
+import com.bookaro.dto.ServiceDto;
+import com.bookaro.dto.ServiceListDto;
+import com.bookaro.dto.VendorInfoDto;
+import com.bookaro.exception.BadRequestException;
+import com.bookaro.repository.VendorRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Normalizes service listings for ?include=vendors. Vendors already attached to the DTOs
+ * (in-memory catalog, joined queries) are reused; the rest are read in a single IN query.
+ * The DTOs passed in may be shared, so the result holds copies.
+ */
+@org.springframework.stereotype.Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class VendorSideLoadService {
+
+    public static final String INCLUDE_VENDORS = "vendors";
+
+    private final VendorRepository vendorRepository;
+
+    /**
+     * Whether an include parameter asks for side-loaded vendors
+     */
+    public static boolean isRequested(String include) {
+        if (include == null || include.isBlank()) {
+            return false;
+        }
+        if (!INCLUDE_VENDORS.equalsIgnoreCase(include.trim())) {
+            throw new BadRequestException("include supports: " + INCLUDE_VENDORS);
+        }
+        return true;
+    }
+
+    /**
+     * Columns to read for a side-loaded listing: the vendor foreign key instead of the vendor join
+     */
+    public static FieldSelection withVendorReference(FieldSelection fields) {
+        return fields.without("vendor").with("vendorId");
+    }
+
+    public ServiceListDto sideLoad(List<ServiceDto> services) {
+        Map<Long, VendorInfoDto> vendors = new LinkedHashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        for (ServiceDto service : services) {
+            if (service.getVendor() != null) {
+                vendors.putIfAbsent(service.getVendor().getId(), service.getVendor());
+            } else if (service.getVendorId() != null) {
+                missing.add(service.getVendorId());
+            }
+        }
+        missing.removeAll(vendors.keySet());
+        if (!missing.isEmpty()) {
+            vendorRepository.findInfoByIdIn(missing).forEach(vendor -> vendors.put(vendor.getId(), vendor));
+        }
+
+        List<ServiceDto> content = services.stream()
+                .map(ServiceDto::withVendorReference)
+                .collect(Collectors.toList());
+        return new ServiceListDto(content, vendors);
+    }
+}
@@ -0,0 +1,140 @@
+package com.bookaro.catalog;
+
+import com.bookaro.dto.ServiceDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Slice;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogSnapshotTest {
+
+    private static final int SERVICES = 10;
+
+    private final List<ServiceDto> services = services();
+    private final CatalogSnapshot snapshot = CatalogSnapshot.of(services);
+
+    @Test
+    void scrollVisitsEveryRowOnceInSortOrder() {
+        Comparator<ServiceDto> byRatingThenId = Comparator
+                .comparing(ServiceDto::getAverageRating)
+                .thenComparing(ServiceDto::getId);
+
+        assertThat(scrollAll(query("averageRating", "asc", 3).build()))
+                .containsExactlyElementsOf(ids(services.stream().sorted(byRatingThenId).toList()));
+        assertThat(scrollAll(query("averageRating", "desc", 3).build()))
+                .containsExactlyElementsOf(ids(services.stream().sorted(byRatingThenId.reversed()).toList()));
+    }
+
+    @Test
+    void scrollAppliesFilters() {
+        List<Long> ids = scrollAll(query("price", "asc", 2).city("pune").build());
+
+        assertThat(ids).containsExactly(2L, 4L, 6L, 8L, 10L);
+    }
+
+    @Test
+    void scrollPastTheLastRowIsEmpty() {
+        CatalogQuery query = query("price", "desc", 5).build();
+        ServiceDto cheapest = services.get(0);
+
+        CursorPage page = snapshot.scroll(query, CatalogCursor.after(cheapest, "price", true));
+
+        assertThat(page.content()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void scrollWithHugeSizeReturnsEverything() {
+        CursorPage page = snapshot.scroll(query("price", "asc", Integer.MAX_VALUE).build(), null);
+
+        assertThat(page.content()).hasSize(SERVICES);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void sliceLooksOneRowAheadForHasNext() {
+        Slice<ServiceDto> first = snapshot.slice(query("price", "asc", 4).build());
+        Slice<ServiceDto> last = snapshot.slice(query("price", "asc", 4).page(2).build());
+
+        assertThat(ids(first.getContent())).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(ids(last.getContent())).containsExactly(9L, 10L);
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    void sliceEndingExactlyOnTheLastRowHasNoNext() {
+        Slice<ServiceDto> slice = snapshot.slice(query("price", "asc", 5).page(1).build());
+
+        assertThat(ids(slice.getContent())).containsExactly(6L, 7L, 8L, 9L, 10L);
+        assertThat(slice.hasNext()).isFalse();
+    }
+
+    @Test
+    void sliceWithHugeSizeReturnsEverything() {
+        Slice<ServiceDto> slice = snapshot.slice(query("price", "desc", Integer.MAX_VALUE).category("plumbing").build());
+
+        assertThat(ids(slice.getContent())).containsExactly(10L, 9L, 8L, 7L, 6L);
+        assertThat(slice.hasNext()).isFalse();
+    }
+
+    @Test
+    void rankingScoreUpdatesReorderOnlyTheRankingScoreOrder() {
+        CatalogSnapshot ranked = snapshot.withRankingScores(Map.of(1L, new BigDecimal("20"), 99L, BigDecimal.ONE));
+
+        Slice<ServiceDto> byScore = ranked.slice(query("rankingScore", "desc", 3).build());
+        assertThat(ids(byScore.getContent())).containsExactly(1L, 10L, 9L);
+        assertThat(byScore.getContent().get(0).getRankingScore()).isEqualByComparingTo("20");
+        assertThat(ids(ranked.scroll(query("rankingScore", "desc", 2).build(), null).content())).containsExactly(1L, 10L);
+
+        // Other orders and lookups keep the rows of the catalog version
+        ServiceDto cheapest = ranked.slice(query("price", "asc", 1).build()).getContent().get(0);
+        assertThat(cheapest.getRankingScore()).isEqualByComparingTo("1");
+        assertThat(ranked.get(1L)).isSameAs(services.get(0));
+        assertThat(snapshot.slice(query("rankingScore", "desc", 1).build()).getContent().get(0).getId()).isEqualTo(10L);
+    }
+
+    private List<Long> scrollAll(CatalogQuery query) {
+        List<Long> ids = new ArrayList<>();
+        CatalogCursor cursor = null;
+        do {
+            CursorPage page = snapshot.scroll(query, cursor);
+            assertThat(page.content().size()).isLessThanOrEqualTo(query.getSize());
+            ids.addAll(ids(page.content()));
+            cursor = page.hasNext() ? CatalogCursor.decode(page.nextCursor()) : null;
+        } while (cursor != null);
+        return ids;
+    }
+
+    private static CatalogQuery.CatalogQueryBuilder query(String sortBy, String sortDir, int size) {
+        return CatalogQuery.builder().sortBy(sortBy).sortDir(sortDir).size(size);
+    }
+
+    private static List<Long> ids(List<ServiceDto> services) {
+        return services.stream().map(ServiceDto::getId).toList();
+    }
+
+    // Prices rise with the id; ratings repeat every three services so sorts have ties to break
+    private static List<ServiceDto> services() {
+        List<ServiceDto> services = new ArrayList<>();
+        for (long id = 1; id <= SERVICES; id++) {
+            services.add(ServiceDto.builder()
+                    .id(id)
+                    .serviceName("Service " + id)
+                    .category(id <= 5 ? "Home Cleaning" : "Plumbing")
+                    .city(id % 2 == 0 ? "Pune" : "Mumbai")
+                    .price(BigDecimal.valueOf(100 * id))
+                    .averageRating(BigDecimal.valueOf(35 + (id % 3) * 5, 1))
+                    .rankingScore(BigDecimal.valueOf(id))
+                    .isAvailable(true)
+                    .build());
+        }
+        return services;
+    }
+}
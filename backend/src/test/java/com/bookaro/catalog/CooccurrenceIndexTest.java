@@ -0,0 +1,145 @@
+package com.bookaro.catalog;
+
+import com.bookaro.catalog.CooccurrenceIndex.Recommendation;
+import com.bookaro.repository.BookingRepository;
+import com.bookaro.repository.FavoriteRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CooccurrenceIndexTest {
+
+    // (userId, serviceId): users 1 and 2 both have services 10 and 20, user 3 has 10 and 30
+    private static final List<Object[]> BOOKINGS = List.of(
+            new Object[]{1L, 10L}, new Object[]{1L, 20L},
+            new Object[]{2L, 10L}, new Object[]{3L, 10L});
+    private static final List<Object[]> FAVORITES = List.of(
+            new Object[]{2L, 20L}, new Object[]{3L, 30L});
+
+    @TempDir
+    Path dataDir;
+
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final FavoriteRepository favoriteRepository = mock(FavoriteRepository.class);
+
+    @Test
+    void scoresByCosineNormalizedCounts() {
+        CooccurrenceIndex index = loaded(BOOKINGS, FAVORITES);
+        try {
+            // 10 and 20 share two users out of three and two; 10 and 30 share one out of three and one
+            assertThat(index.alsoBooked(10L, 5)).extracting(Recommendation::serviceId).containsExactly(20L, 30L);
+            assertThat(index.alsoBooked(10L, 5).get(0).score()).isCloseTo(2 / Math.sqrt(6), within(1e-9));
+            assertThat(index.forUser(1L, 5)).extracting(Recommendation::serviceId).containsExactly(30L);
+            assertThat(index.alsoBooked(99L, 5)).isEmpty();
+            assertThat(index.forUser(99L, 5)).isEmpty();
+        } finally {
+            index.shutdown();
+        }
+    }
+
+    @Test
+    void snapshotRoundTripRestoresTheMatrix() throws Exception {
+        CooccurrenceIndex original = loaded(BOOKINGS, FAVORITES);
+        List<Recommendation> alsoBooked = original.alsoBooked(10L, 5);
+        List<Recommendation> forUser = original.forUser(3L, 5);
+        original.shutdown();
+        assertThat(Files.exists(snapshot())).isTrue();
+
+        // The overlap window replays some history again; it must not be counted twice
+        CooccurrenceIndex restored = loaded(List.<Object[]>of(new Object[]{1L, 20L}), List.of());
+        try {
+            assertThat(restored.alsoBooked(10L, 5)).isEqualTo(alsoBooked);
+            assertThat(restored.forUser(3L, 5)).isEqualTo(forUser);
+
+            ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(bookingRepository, times(2))
+                    .findUserServicePairsByStatusUpdatedAfter(any(), since.capture());
+            assertThat(since.getAllValues().get(1)).isAfter(LocalDateTime.now().minusHours(1));
+        } finally {
+            restored.shutdown();
+        }
+    }
+
+    @Test
+    void ignoresAnUnreadableSnapshot() throws Exception {
+        Files.writeString(snapshot(), "not a snapshot");
+
+        CooccurrenceIndex index = loaded(BOOKINGS, FAVORITES);
+        try {
+            assertThat(index.alsoBooked(10L, 5)).extracting(Recommendation::serviceId).containsExactly(20L, 30L);
+        } finally {
+            index.shutdown();
+        }
+    }
+
+    @Test
+    void recordsNewFavoritesIncrementally() {
+        CooccurrenceIndex index = loaded(BOOKINGS, FAVORITES);
+        try {
+            index.onFavoriteAdded(new FavoriteAddedEvent(1L, 40L));
+
+            await(() -> !index.alsoBooked(40L, 5).isEmpty());
+            // Service 20 has fewer users than 10, so sharing one user weighs more
+            assertThat(index.alsoBooked(40L, 5)).extracting(Recommendation::serviceId).containsExactly(20L, 10L);
+        } finally {
+            index.shutdown();
+        }
+    }
+
+    @Test
+    void retriesTheReplayAfterAFailedLoad() {
+        when(bookingRepository.findUserServicePairsByStatusUpdatedAfter(any(), any()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"))
+                .thenReturn(new ArrayList<>(BOOKINGS));
+        when(favoriteRepository.findUserServicePairsCreatedAfter(any())).thenReturn(new ArrayList<>(FAVORITES));
+        CooccurrenceIndex index = new CooccurrenceIndex(bookingRepository, favoriteRepository,
+                snapshot().toString(), 60);
+        try {
+            index.onApplicationReady();
+
+            await(index::isReady);
+            assertThat(index.alsoBooked(10L, 5)).extracting(Recommendation::serviceId).containsExactly(20L, 30L);
+            assertThat(index.alsoBooked(10L, 5).get(0).score()).isCloseTo(2 / Math.sqrt(6), within(1e-9));
+        } finally {
+            index.shutdown();
+        }
+    }
+
+    private CooccurrenceIndex loaded(List<Object[]> bookings, List<Object[]> favorites) {
+        when(bookingRepository.findUserServicePairsByStatusUpdatedAfter(any(), any())).thenReturn(new ArrayList<>(bookings));
+        when(favoriteRepository.findUserServicePairsCreatedAfter(any())).thenReturn(new ArrayList<>(favorites));
+        CooccurrenceIndex index = new CooccurrenceIndex(bookingRepository, favoriteRepository,
+                snapshot().toString(), 60);
+        index.onApplicationReady();
+        await(index::isReady);
+        return index;
+    }
+
+    private Path snapshot() {
+        return dataDir.resolve("cooccurrence.bin");
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition within 5s").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.bookaro.catalog;
+
+import com.bookaro.model.Booking.BookingStatus;
+import com.bookaro.model.Service;
+import com.bookaro.repository.BookingRepository;
+import com.bookaro.repository.ServiceRepository;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RankingScoreUpdaterTest {
+
+    private static final LocalDateTime LAST_BOOKED = LocalDateTime.now().minusDays(1);
+    // The recency boost may tick over between the update and the expectation
+    private static final Offset<BigDecimal> SCORE_UNIT = within(new BigDecimal("0.0001"));
+
+    private final ServiceRepository serviceRepository = mock(ServiceRepository.class);
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final RankingScoreUpdater updater =
+            new RankingScoreUpdater(serviceRepository, bookingRepository, eventPublisher);
+
+    @AfterEach
+    void tearDown() {
+        updater.shutdown();
+    }
+
+    @Test
+    void writesBookingStatsGuardedOnTheRatingAndPublishesTheScore() {
+        givenBookings(7L, 3);
+        when(serviceRepository.findById(7L)).thenReturn(Optional.of(service(7L, "4.50", 12)));
+        when(serviceRepository.updateBookingStats(eq(7L), eq(3), eq(LAST_BOOKED), any(),
+                eq(new BigDecimal("4.50")), eq(12))).thenReturn(1);
+
+        updater.onBookingChange(new BookingChangeEvent(1L, 7L, 2L, BookingStatus.PENDING, true));
+
+        RankingChangeEvent event = publishedEvent();
+        assertThat(event.getRankingScores()).containsOnlyKeys(7L);
+        assertThat(event.getRankingScores().get(7L)).isCloseTo(
+                RankingScore.compute(new BigDecimal("4.50"), 12, 3, LAST_BOOKED, LocalDateTime.now()), SCORE_UNIT);
+        verify(serviceRepository, never()).save(any());
+    }
+
+    @Test
+    void rereadsTheRatingWhenAReviewCommitsMeanwhile() {
+        givenBookings(7L, 3);
+        when(serviceRepository.findById(7L)).thenReturn(
+                Optional.of(service(7L, "4.50", 12)),
+                Optional.of(service(7L, "4.00", 13)));
+        when(serviceRepository.updateBookingStats(eq(7L), eq(3), eq(LAST_BOOKED), any(),
+                eq(new BigDecimal("4.50")), eq(12))).thenReturn(0);
+        when(serviceRepository.updateBookingStats(eq(7L), eq(3), eq(LAST_BOOKED), any(),
+                eq(new BigDecimal("4.00")), eq(13))).thenReturn(1);
+
+        updater.onBookingChange(new BookingChangeEvent(1L, 7L, 2L, BookingStatus.PENDING, true));
+
+        assertThat(publishedEvent().getRankingScores().get(7L)).isCloseTo(
+                RankingScore.compute(new BigDecimal("4.00"), 13, 3, LAST_BOOKED, LocalDateTime.now()), SCORE_UNIT);
+    }
+
+    private RankingChangeEvent publishedEvent() {
+        ArgumentCaptor<RankingChangeEvent> event = ArgumentCaptor.forClass(RankingChangeEvent.class);
+        verify(eventPublisher, timeout(5_000)).publishEvent(event.capture());
+        return event.getValue();
+    }
+
+    private void givenBookings(Long serviceId, int count) {
+        when(bookingRepository.countByServiceIdAndStatusNot(serviceId, BookingStatus.CANCELLED)).thenReturn((long) count);
+        when(bookingRepository.findLastCreatedAtByServiceIdAndStatusNot(serviceId, BookingStatus.CANCELLED))
+                .thenReturn(LAST_BOOKED);
+    }
+
+    private static Service service(Long id, String averageRating, int totalReviews) {
+        return Service.builder()
+                .id(id)
+                .averageRating(new BigDecimal(averageRating))
+                .totalReviews(totalReviews)
+                .totalBookings(2)
+                .build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.bookaro.catalog;
+
+import com.bookaro.dto.ServiceDto;
+import com.bookaro.dto.VendorInfoDto;
+import com.bookaro.repository.ServiceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SearchIndexTest {
+
+    private final ServiceRepository serviceRepository = mock(ServiceRepository.class);
+    private final SearchIndex searchIndex = new SearchIndex(serviceRepository);
+
+    @BeforeEach
+    void setUp() {
+        when(serviceRepository.findDtos(any(Specification.class), any(Sort.class))).thenReturn(List.of(
+                service(1L, "Deep Cleaning", "Home Cleaning", "Mumbai", "Kitchen, bathroom and sofa stains", "Sparkle Homes"),
+                service(2L, "Sofa Shampoo", "Home Cleaning", "Pune", "Fabric cleaning at home", "Fresh Fabrics"),
+                service(3L, "Clean Team", "Home Cleaning", "Mumbai", "Whole house", "Crew One"),
+                service(4L, "Cleaning Team", "Home Cleaning", "Mumbai", "Whole house", "Crew Two"),
+                service(5L, "AC Repair", "Appliance Repair", "Mumbai", "Split and window units", "Sparkle Homes")));
+        searchIndex.onApplicationReady();
+        awaitGeneration(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchIndex.shutdown();
+    }
+
+    @Test
+    void isEmptyUntilBuilt() {
+        SearchIndex unbuilt = new SearchIndex(serviceRepository);
+
+        assertThat(unbuilt.isReady()).isFalse();
+        assertThat(unbuilt.search("cleaning", null, null, 0, 10)).isEmpty();
+    }
+
+    @Test
+    void nameMatchesOutrankDescriptionMatches() {
+        // "sofa" is in the name of service 2 and only in the description of service 1
+        assertThat(ids(search("sofa", null, null))).containsExactly(2L, 1L);
+        assertThat(ids(search("fabric", null, null))).containsExactly(2L);
+    }
+
+    @Test
+    void exactTermsOutrankPrefixExpansions() {
+        // Services 3 and 4 differ only in "clean" vs "cleaning"
+        List<Long> ids = ids(search("clean team", null, null));
+
+        assertThat(ids).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void shortPrefixesKeepTheMostCommonCompletions() {
+        // 70 rare completions of "pa" sort before "patio", which is in three services
+        List<ServiceDto> services = new ArrayList<>();
+        for (int i = 0; i < 70; i++) {
+            String term = "pa" + (char) ('a' + i / 26) + (char) ('a' + i % 26);
+            services.add(service(100L + i, "Service " + term, "Misc", "Goa", term, "Vendor"));
+        }
+        for (long id = 1; id <= 3; id++) {
+            services.add(service(id, "Patio Cleaning", "Outdoor", "Goa", "Decks", "Vendor"));
+        }
+        ServiceRepository repository = mock(ServiceRepository.class);
+        when(repository.findDtos(any(Specification.class), any(Sort.class))).thenReturn(services);
+        SearchIndex index = new SearchIndex(repository);
+        try {
+            index.onApplicationReady();
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (!index.isReady()) {
+                assertThat(System.currentTimeMillis()).as("index built").isLessThan(deadline);
+                Thread.onSpinWait();
+            }
+
+            List<Long> ids = ids(index.search("pa", null, null, 0, 100).orElseThrow());
+            // "patio" plus the first 63 rare completions
+            assertThat(ids).hasSize(66).contains(1L, 2L, 3L);
+        } finally {
+            index.shutdown();
+        }
+    }
+
+    @Test
+    void everyQueryTokenHasToMatch() {
+        assertThat(ids(search("cleaning repair", null, null))).isEmpty();
+        assertThat(ids(search("split units", null, null))).containsExactly(5L);
+    }
+
+    @Test
+    void indexesVendorBusinessNames() {
+        assertThat(ids(search("sparkle", null, null))).containsExactlyInAnyOrder(1L, 5L);
+    }
+
+    @Test
+    void filtersByCategoryAndCityIgnoringCase() {
+        assertThat(ids(search("cleaning", null, "PUNE"))).containsExactly(2L);
+        assertThat(ids(search("sparkle", "appliance repair", null))).containsExactly(5L);
+    }
+
+    @Test
+    void pagesThroughRankedHits() {
+        Page<ServiceDto> first = searchIndex.search("home", null, null, 0, 2).orElseThrow();
+        Page<ServiceDto> second = searchIndex.search("home", null, null, 1, 2).orElseThrow();
+
+        assertThat(first.getTotalElements()).isEqualTo(5);
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(second.getContent()).hasSize(2);
+        assertThat(ids(first)).doesNotContainAnyElementsOf(ids(second));
+    }
+
+    @Test
+    void appliesCatalogChanges() {
+        ServiceDto unavailable = service(1L, "Deep Cleaning", "Home Cleaning", "Mumbai", "Kitchen", "Sparkle Homes");
+        unavailable.setIsAvailable(false);
+        when(serviceRepository.findDtoById(1L)).thenReturn(Optional.of(unavailable));
+        when(serviceRepository.findDtoById(6L)).thenReturn(
+                Optional.of(service(6L, "Deep Pool Cleaning", "Pool Care", "Goa", "Filters", "Blue Lagoon")));
+
+        long generation = searchIndex.generation();
+        searchIndex.onCatalogChange(new CatalogChangeEvent(1L, CatalogChangeEvent.ChangeType.UPDATED));
+        searchIndex.onCatalogChange(new CatalogChangeEvent(6L, CatalogChangeEvent.ChangeType.CREATED));
+        searchIndex.onCatalogChange(new CatalogChangeEvent(5L, CatalogChangeEvent.ChangeType.DELETED));
+        awaitGeneration(generation + 3);
+
+        assertThat(ids(search("deep", null, null))).containsExactly(6L);
+        assertThat(ids(search("repair", null, null))).isEmpty();
+    }
+
+    private Page<ServiceDto> search(String keyword, String category, String city) {
+        return searchIndex.search(keyword, category, city, 0, 20).orElseThrow();
+    }
+
+    private void awaitGeneration(long generation) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (searchIndex.generation() < generation) {
+            assertThat(System.currentTimeMillis()).as("index generation %d", generation).isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private static List<Long> ids(Page<ServiceDto> page) {
+        return page.getContent().stream().map(ServiceDto::getId).toList();
+    }
+
+    private static ServiceDto service(Long id, String name, String category, String city,
+                                      String description, String vendorName) {
+        return ServiceDto.builder()
+                .id(id)
+                .serviceName(name)
+                .category(category)
+                .city(city)
+                .description(description)
+                .isAvailable(true)
+                .averageRating(new BigDecimal("4.00"))
+                .vendor(VendorInfoDto.builder().businessName(vendorName).build())
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.bookaro.catalog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializedResponseCacheTest {
+
+    private static final int SLAB_BYTES = 16 * DirectSlab.BLOCK_SIZE;
+
+    private final SerializedResponseCache cache =
+            new SerializedResponseCache(new SimpleMeterRegistry(), SLAB_BYTES, SLAB_BYTES);
+
+    @Test
+    void servesIdentityAndGzipFromTheSlab() throws IOException {
+        byte[] body = body(3 * DirectSlab.BLOCK_SIZE + 100, 1);
+        cache.put("k", "application/json", "\"v1\"", "max-age=30", body);
+
+        try (SerializedResponseCache.Entry entry = cache.acquire("k")) {
+            assertThat(entry.contentType()).isEqualTo("application/json");
+            assertThat(entry.etag()).isEqualTo("\"v1\"");
+            assertThat(entry.length(false)).isEqualTo(body.length);
+            assertThat(written(entry, false)).isEqualTo(body);
+            assertThat(new GZIPInputStream(new ByteArrayInputStream(written(entry, true))).readAllBytes())
+                    .isEqualTo(body);
+        }
+        assertThat(cache.acquire("missing")).isNull();
+    }
+
+    @Test
+    void evictsColdEntriesToStayWithinTheSlab() {
+        // Random bytes barely compress, so each entry takes four identity and four gzip blocks
+        for (int i = 0; i < 5; i++) {
+            cache.put("k" + i, "application/json", null, null, body(3 * DirectSlab.BLOCK_SIZE + 100, i));
+            assertThat(cache.freeBytes()).isBetween(0, SLAB_BYTES);
+        }
+
+        assertThat(cache.acquire("k4")).isNotNull().satisfies(SerializedResponseCache.Entry::close);
+        assertThat(cache.freeBytes()).isZero();
+    }
+
+    @Test
+    void keepsBlocksOfAnEvictedEntryUntilItIsClosed() {
+        byte[] body = body(DirectSlab.BLOCK_SIZE, 7);
+        cache.put("k", "application/json", null, null, body);
+        int free = cache.freeBytes();
+
+        SerializedResponseCache.Entry entry = cache.acquire("k");
+        cache.put("k", "application/json", null, null, body);
+        assertThat(cache.freeBytes()).isLessThan(free);
+
+        entry.close();
+        assertThat(cache.freeBytes()).isEqualTo(free);
+    }
+
+    @Test
+    void skipsBodiesThatCannotFit() {
+        cache.put("empty", "application/json", null, null, new byte[0]);
+        cache.put("huge", "application/json", null, null, body(SLAB_BYTES, 3));
+
+        assertThat(cache.acquire("empty")).isNull();
+        assertThat(cache.acquire("huge")).isNull();
+        assertThat(cache.freeBytes()).isEqualTo(SLAB_BYTES);
+    }
+
+    private static byte[] written(SerializedResponseCache.Entry entry, boolean gzip) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entry.writeTo(gzip, Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    private static byte[] body(int length, long seed) {
+        byte[] body = new byte[length];
+        new Random(seed).nextBytes(body);
+        return body;
+    }
+}
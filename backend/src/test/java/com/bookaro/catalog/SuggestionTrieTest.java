@@ -0,0 +1,68 @@
+package com.bookaro.catalog;
+
+import com.bookaro.catalog.SuggestionTrie.Suggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestionTrieTest {
+
+    private final SuggestionTrie trie = SuggestionTrie.build(List.of(
+            new Suggestion("Deep Cleaning", "service", 40),
+            new Suggestion("Home Cleaning", "category", 90),
+            new Suggestion("Sofa Cleaning", "service", 40),
+            new Suggestion("Plumbing", "category", 70),
+            new Suggestion("Mumbai", "city", 120)), 3);
+
+    @Test
+    void completesFromTheStartOfAnyWord() {
+        assertThat(texts(trie.complete("clean", 10)))
+                .containsExactly("Home Cleaning", "Deep Cleaning", "Sofa Cleaning");
+        assertThat(texts(trie.complete("home", 10))).containsExactly("Home Cleaning");
+    }
+
+    @Test
+    void doesNotMatchInsideWords() {
+        assertThat(trie.complete("leaning", 10)).isEmpty();
+        assertThat(trie.complete("umbai", 10)).isEmpty();
+    }
+
+    @Test
+    void ranksByWeightThenText() {
+        assertThat(texts(trie.complete("m", 10))).containsExactly("Mumbai");
+        // Equal weights fall back to alphabetical order
+        assertThat(texts(trie.complete("c", 10)))
+                .containsExactly("Home Cleaning", "Deep Cleaning", "Sofa Cleaning");
+    }
+
+    @Test
+    void isCaseInsensitiveAndTrimsThePrefix() {
+        assertThat(trie.complete("  PLUMB ", 10))
+                .containsExactly(new Suggestion("Plumbing", "category", 70));
+    }
+
+    @Test
+    void keepsAtMostTheConfiguredCompletionsPerNode() {
+        SuggestionTrie small = SuggestionTrie.build(List.of(
+                new Suggestion("Tap Repair", "service", 1),
+                new Suggestion("Tile Repair", "service", 3),
+                new Suggestion("Tv Repair", "service", 2)), 2);
+
+        assertThat(texts(small.complete("t", 10))).containsExactly("Tile Repair", "Tv Repair");
+        assertThat(texts(small.complete("repair", 1))).containsExactly("Tile Repair");
+        assertThat(small.size()).isEqualTo(3);
+    }
+
+    @Test
+    void returnsNothingForBlankOrUnknownPrefixes() {
+        assertThat(trie.complete("   ", 10)).isEmpty();
+        assertThat(trie.complete("xyz", 10)).isEmpty();
+        assertThat(SuggestionTrie.build(List.of(), 5).complete("a", 5)).isEmpty();
+    }
+
+    private static List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::text).toList();
+    }
+}
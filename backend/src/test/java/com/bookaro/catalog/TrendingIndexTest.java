@@ -0,0 +1,107 @@
+package com.bookaro.catalog;
+
+import com.bookaro.catalog.TrendingIndex.Signal;
+import com.bookaro.catalog.TrendingIndex.Trend;
+import com.bookaro.dto.ServiceDto;
+import com.bookaro.model.Booking.BookingStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TrendingIndexTest {
+
+    private static final long HALF_LIFE_MINUTES = 60;
+    private static final long HALF_LIFE_MILLIS = TimeUnit.MINUTES.toMillis(HALF_LIFE_MINUTES);
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private final CatalogEngine catalogEngine = mock(CatalogEngine.class);
+    private final TrendingIndex trendingIndex = new TrendingIndex(catalogEngine, HALF_LIFE_MINUTES, 10, now::get);
+
+    @AfterEach
+    void tearDown() {
+        trendingIndex.shutdown();
+    }
+
+    @Test
+    void decaysByHalfEveryHalfLife() {
+        trendingIndex.record(Signal.BOOKING, 1L, "Mumbai", "Plumbing");
+        now.addAndGet(HALF_LIFE_MILLIS);
+        trendingIndex.record(Signal.VIEW, 2L, "Mumbai", "Plumbing");
+
+        List<Trend> top = trendingIndex.top(null, null, 10);
+
+        assertThat(top).extracting(Trend::serviceId).containsExactly(1L, 2L);
+        assertThat(top.get(0).score()).isCloseTo(2.5, within(1e-9));
+        assertThat(top.get(1).score()).isCloseTo(1.0, within(1e-9));
+    }
+
+    @Test
+    void ranksWithinCityAndCategoryScopes() {
+        trendingIndex.record(Signal.BOOKING, 1L, "Mumbai", "Plumbing");
+        trendingIndex.record(Signal.FAVORITE, 2L, "Pune", "Plumbing");
+        trendingIndex.record(Signal.VIEW, 3L, " mumbai ", "Home Cleaning");
+
+        assertThat(ids(trendingIndex.top("MUMBAI", null, 10))).containsExactly(1L, 3L);
+        assertThat(ids(trendingIndex.top(null, "plumbing", 10))).containsExactly(1L, 2L);
+        assertThat(ids(trendingIndex.top("Pune", "Plumbing", 10))).containsExactly(2L);
+        assertThat(ids(trendingIndex.top(null, null, 2))).containsExactly(1L, 2L);
+        assertThat(trendingIndex.top("Goa", null, 10)).isEmpty();
+    }
+
+    @Test
+    void rescaleKeepsScoresAndRanking() {
+        trendingIndex.record(Signal.BOOKING, 1L, "Mumbai", "Plumbing");
+        now.addAndGet(33 * HALF_LIFE_MILLIS);
+        trendingIndex.record(Signal.FAVORITE, 2L, "Mumbai", "Plumbing");
+        List<Trend> before = trendingIndex.top("Mumbai", "Plumbing", 10);
+
+        trendingIndex.rescaleIfNeeded();
+        List<Trend> after = trendingIndex.top("Mumbai", "Plumbing", 10);
+
+        assertThat(ids(after)).containsExactly(2L, 1L);
+        assertThat(after.get(0).score()).isCloseTo(before.get(0).score(), within(1e-9));
+        assertThat(after.get(1).score()).isCloseTo(before.get(1).score(), within(1e-18));
+        assertThat(after.get(1).score()).isCloseTo(5 / Math.pow(2, 33), within(1e-18));
+
+        // Counting continues against the new landmark
+        trendingIndex.record(Signal.FAVORITE, 2L, "Mumbai", "Plumbing");
+        assertThat(trendingIndex.top(null, null, 1).get(0).score()).isCloseTo(6.0, within(1e-9));
+    }
+
+    @Test
+    void countsCreatedBookingsAndFavoritesFromEvents() {
+        ServiceDto service = ServiceDto.builder().id(7L).city("Mumbai").category("Plumbing").build();
+        when(catalogEngine.findLatestByIds(any())).thenReturn(Map.of(7L, service));
+
+        trendingIndex.onBookingChange(new BookingChangeEvent(100L, 7L, 1L, BookingStatus.PENDING, true));
+        trendingIndex.onBookingChange(new BookingChangeEvent(100L, 7L, 1L, BookingStatus.CONFIRMED, false));
+        trendingIndex.onFavoriteAdded(new FavoriteAddedEvent(1L, 7L));
+
+        List<Trend> top = trendingIndex.top("Mumbai", "Plumbing", 10);
+        assertThat(ids(top)).containsExactly(7L);
+        assertThat(top.get(0).score()).isCloseTo(8.0, within(1e-9));
+    }
+
+    @Test
+    void skipsEventsForServicesMissingFromTheCatalog() {
+        when(catalogEngine.findLatestByIds(any())).thenReturn(Map.of());
+
+        trendingIndex.onFavoriteAdded(new FavoriteAddedEvent(1L, 7L));
+
+        assertThat(trendingIndex.top(null, null, 10)).isEmpty();
+    }
+
+    private static List<Long> ids(List<Trend> trends) {
+        return trends.stream().map(Trend::serviceId).toList();
+    }
+}
@@ -0,0 +1,160 @@
+package com.bookaro.config;
+
+import com.bookaro.dto.ApiResponse;
+import com.bookaro.dto.ServiceDto;
+import com.bookaro.dto.VendorInfoDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode time of a 100-service catalog page as JSON, Smile and CBOR, using
+ * mappers configured the way JacksonConfig configures the HTTP message converters.
+ * Run through ResponseEncodingTest with -Dbenchmark=true; payload sizes are asserted
+ * there on every build.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseEncodingBenchmark {
+
+    static final int PAGE_SIZE = 100;
+
+    private ObjectMapper json;
+    private ObjectMapper smile;
+    private ObjectMapper cbor;
+    private ApiResponse<Map<String, Object>> page;
+    private byte[] jsonBytes;
+    private byte[] smileBytes;
+    private byte[] cborBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        json = mapper(null);
+        smile = mapper(new SmileFactory());
+        cbor = mapper(new CBORFactory());
+        page = catalogPage(PAGE_SIZE);
+        jsonBytes = json.writeValueAsBytes(page);
+        smileBytes = smile.writeValueAsBytes(page);
+        cborBytes = cbor.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return json.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] encodeSmile() throws IOException {
+        return smile.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] encodeCbor() throws IOException {
+        return cbor.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public Object decodeJson() throws IOException {
+        return json.readTree(jsonBytes);
+    }
+
+    @Benchmark
+    public Object decodeSmile() throws IOException {
+        return smile.readTree(smileBytes);
+    }
+
+    @Benchmark
+    public Object decodeCbor() throws IOException {
+        return cbor.readTree(cborBytes);
+    }
+
+    /**
+     * Mapper for the given binary factory, or plain JSON when null
+     */
+    static ObjectMapper mapper(JsonFactory factory) {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+                .filters(new SimpleFilterProvider().setFailOnUnknownId(false))
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        return factory == null ? mapper : mapper.copyWith(factory);
+    }
+
+    /**
+     * A page of fully populated services, shaped like GET /services
+     */
+    static ApiResponse<Map<String, Object>> catalogPage(int size) {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 15, 10, 30);
+        List<ServiceDto> services = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            long vendorId = 1000L + i % 20;
+            services.add(ServiceDto.builder()
+                    .id((long) i)
+                    .serviceName("Deep Home Cleaning " + i)
+                    .description("Full home deep cleaning including kitchen degreasing, bathroom descaling "
+                            + "and sofa shampooing by a trained crew of " + (2 + i % 3) + ".")
+                    .category(i % 2 == 0 ? "Home Cleaning" : "Appliance Repair")
+                    .price(BigDecimal.valueOf(49900 + i * 100L, 2))
+                    .durationMinutes(60 + (i % 4) * 30)
+                    .address(i + ", Hill Road, Bandra West")
+                    .city(i % 3 == 0 ? "Pune" : "Mumbai")
+                    .state("Maharashtra")
+                    .postalCode("4000" + (50 + i % 40))
+                    .latitude(19.0544 + i * 0.0007)
+                    .longitude(72.8402 - i * 0.0005)
+                    .isAvailable(true)
+                    .averageRating(BigDecimal.valueOf(350 + i % 150, 2))
+                    .totalReviews(i * 7)
+                    .rankingScore(BigDecimal.valueOf(1_000_000L + i * 3217L, 6))
+                    .updatedAt(updatedAt.plusMinutes(i))
+                    .vendor(VendorInfoDto.builder()
+                            .id(vendorId)
+                            .vendorCode("VND" + vendorId)
+                            .businessName("Sparkle Homes " + vendorId)
+                            .primaryCategory("Home Services")
+                            .phone("98200" + (10000 + vendorId))
+                            .email("contact" + vendorId + "@sparklehomes.in")
+                            .location("Bandra West")
+                            .availability("Mon-Sat 9am-7pm")
+                            .yearsOfExperience(5 + i % 10)
+                            .averageRating(BigDecimal.valueOf(420, 2))
+                            .totalReviews(250)
+                            .isVerified(true)
+                            .build())
+                    .build());
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("content", services);
+        response.put("totalPages", 50);
+        response.put("totalElements", 50L * size);
+        response.put("currentPage", 0);
+        response.put("size", size);
+        return ApiResponse.success("Services retrieved successfully", response);
+    }
+}
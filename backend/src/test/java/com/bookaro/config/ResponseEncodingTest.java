@@ -0,0 +1,74 @@
+package com.bookaro.config;
+
+import com.bookaro.dto.ApiResponse;
+import com.bookaro.dto.ServiceDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Binary encodings of a 100-service catalog page: both must be smaller than JSON and decode
+ * back to the same services. The payload sizes and timing comparison are reported only
+ * with -Dbenchmark=true, e.g.
+ * mvn test -Dtest=ResponseEncodingTest -Dbenchmark=true
+ */
+class ResponseEncodingTest {
+
+    private final ApiResponse<Map<String, Object>> page = ResponseEncodingBenchmark.catalogPage(ResponseEncodingBenchmark.PAGE_SIZE);
+
+    @Test
+    void binaryEncodingsAreSmallerThanJson() throws Exception {
+        byte[] json = ResponseEncodingBenchmark.mapper(null).writeValueAsBytes(page);
+        byte[] smile = ResponseEncodingBenchmark.mapper(new SmileFactory()).writeValueAsBytes(page);
+        byte[] cbor = ResponseEncodingBenchmark.mapper(new CBORFactory()).writeValueAsBytes(page);
+
+        assertThat(smile.length).isLessThan(json.length);
+        assertThat(cbor.length).isLessThan(json.length);
+    }
+
+    @Test
+    void binaryEncodingsRoundTrip() throws Exception {
+        assertThat(roundTrip(ResponseEncodingBenchmark.mapper(null))).isEqualTo(content());
+        assertThat(roundTrip(ResponseEncodingBenchmark.mapper(new SmileFactory()))).isEqualTo(content());
+        assertThat(roundTrip(ResponseEncodingBenchmark.mapper(new CBORFactory()))).isEqualTo(content());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void encodingBenchmark() throws Exception {
+        // Reported next to the JMH timings, which also go to standard output
+        System.out.printf("100-service page: JSON %d bytes, Smile %d bytes, CBOR %d bytes%n",
+                ResponseEncodingBenchmark.mapper(null).writeValueAsBytes(page).length,
+                ResponseEncodingBenchmark.mapper(new SmileFactory()).writeValueAsBytes(page).length,
+                ResponseEncodingBenchmark.mapper(new CBORFactory()).writeValueAsBytes(page).length);
+        new Runner(new OptionsBuilder()
+                .include(ResponseEncodingBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    private List<?> content() {
+        return (List<?>) page.getData().get("content");
+    }
+
+    private List<ServiceDto> roundTrip(ObjectMapper mapper) throws Exception {
+        ApiResponse<ServicePage> decoded = mapper.readValue(mapper.writeValueAsBytes(page),
+                new TypeReference<ApiResponse<ServicePage>>() {
+                });
+        assertThat(decoded.getData().content()).hasSize(ResponseEncodingBenchmark.PAGE_SIZE);
+        return decoded.getData().content();
+    }
+
+    private record ServicePage(List<ServiceDto> content, int totalPages, long totalElements, int currentPage, int size) {
+    }
+}
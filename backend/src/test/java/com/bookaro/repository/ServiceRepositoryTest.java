@@ -0,0 +1,97 @@
+package com.bookaro.repository;
+
+import com.bookaro.catalog.CatalogQuery;
+import com.bookaro.dto.ServiceDto;
+import com.bookaro.model.Service;
+import com.bookaro.model.Vendor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Filtering on the normalized category_key / city_key columns (catalog_indexes.sql).
+ * The schema is generated from the entities on an embedded database, since the
+ * application itself only validates against the migrated PostgreSQL schema.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+class ServiceRepositoryTest {
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private VendorRepository vendorRepository;
+
+    private Vendor vendor;
+
+    @BeforeEach
+    void setUp() {
+        vendor = vendorRepository.save(Vendor.builder()
+                .businessName("Sparkle Homes")
+                .primaryCategory("Home Services")
+                .phone("9800000000")
+                .location("Bandra West")
+                .build());
+    }
+
+    @Test
+    void saveNormalizesCategoryAndCityKeys() {
+        Service service = serviceRepository.saveAndFlush(service("Deep Cleaning", "  Home Cleaning ", "Mumbai "));
+
+        assertThat(service.getCategoryKey()).isEqualTo("home cleaning");
+        assertThat(service.getCityKey()).isEqualTo("mumbai");
+
+        service.setCity("PUNE");
+        service = serviceRepository.saveAndFlush(service);
+        assertThat(service.getCityKey()).isEqualTo("pune");
+    }
+
+    @Test
+    void matchingFiltersOnNormalizedKeys() {
+        Service match = serviceRepository.save(service("Deep Cleaning", "Home Cleaning", "Mumbai"));
+        serviceRepository.save(service("Sofa Cleaning", "Home Cleaning", "Pune"));
+        serviceRepository.save(service("AC Repair", "Appliance Repair", "Mumbai"));
+        Service unavailable = service("Kitchen Cleaning", "Home Cleaning", "Mumbai");
+        unavailable.setIsAvailable(false);
+        serviceRepository.saveAndFlush(unavailable);
+
+        CatalogQuery query = CatalogQuery.builder().category(" HOME cleaning").city("mumbai ").build();
+
+        List<Service> entities = serviceRepository.findAll(ServiceSpecifications.matching(query));
+        assertThat(entities).extracting(Service::getId).containsExactly(match.getId());
+
+        List<ServiceDto> dtos = serviceRepository.findDtos(ServiceSpecifications.matching(query), Sort.by("id"));
+        assertThat(dtos).extracting(ServiceDto::getId).containsExactly(match.getId());
+        assertThat(dtos.get(0).getVendor().getBusinessName()).isEqualTo("Sparkle Homes");
+    }
+
+    @Test
+    void cityOnlyFilterIgnoresCategory() {
+        serviceRepository.save(service("Deep Cleaning", "Home Cleaning", "Mumbai"));
+        serviceRepository.save(service("AC Repair", "Appliance Repair", "MUMBAI"));
+        serviceRepository.saveAndFlush(service("Sofa Cleaning", "Home Cleaning", "Pune"));
+
+        List<Service> services = serviceRepository.findAll(
+                ServiceSpecifications.matching(CatalogQuery.builder().city("Mumbai").build()));
+
+        assertThat(services).extracting(Service::getServiceName)
+                .containsExactlyInAnyOrder("Deep Cleaning", "AC Repair");
+    }
+
+    private Service service(String name, String category, String city) {
+        return Service.builder()
+                .vendor(vendor)
+                .serviceName(name)
+                .category(category)
+                .city(city)
+                .price(new BigDecimal("999.00"))
+                .build();
+    }
+}
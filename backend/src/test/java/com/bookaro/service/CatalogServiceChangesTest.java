@@ -0,0 +1,117 @@
+package com.bookaro.service;
+
+import com.bookaro.catalog.CatalogCountCache;
+import com.bookaro.catalog.ChangeCursor;
+import com.bookaro.dto.CatalogChangesDto;
+import com.bookaro.dto.ServiceChangeDto;
+import com.bookaro.dto.ServiceDto;
+import com.bookaro.exception.BadRequestException;
+import com.bookaro.model.ServiceTombstone;
+import com.bookaro.repository.ServiceRepository;
+import com.bookaro.repository.ServiceTombstoneRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Merging of service changes and tombstones into the GET /services/changes feed
+ */
+class CatalogServiceChangesTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 1, 12, 0, 0, 123_456_000);
+
+    private final ServiceRepository serviceRepository = mock(ServiceRepository.class);
+    private final ServiceTombstoneRepository tombstoneRepository = mock(ServiceTombstoneRepository.class);
+    private final CatalogService catalogService =
+            new CatalogService(serviceRepository, tombstoneRepository, mock(CatalogCountCache.class));
+
+    @Test
+    void mergesServicesAndTombstonesInFeedOrder() {
+        givenServices(service(3L, T0, true), service(1L, T0.plusSeconds(1), false), service(5L, T0.plusSeconds(2), true));
+        // Same timestamp as service 3: the lower service id comes first
+        givenTombstones(tombstone(2L, T0), tombstone(4L, T0.plusSeconds(1)));
+
+        CatalogChangesDto page = catalogService.findChanges(ChangeCursor.START, 10);
+
+        assertThat(page.getChanges()).extracting(ServiceChangeDto::getServiceId).containsExactly(2L, 3L, 1L, 4L, 5L);
+        assertThat(page.getChanges()).extracting(ServiceChangeDto::getType).containsExactly(
+                ServiceChangeDto.ChangeType.DELETED,
+                ServiceChangeDto.ChangeType.UPSERTED,
+                ServiceChangeDto.ChangeType.UNAVAILABLE,
+                ServiceChangeDto.ChangeType.DELETED,
+                ServiceChangeDto.ChangeType.UPSERTED);
+        assertThat(page.isHasMore()).isFalse();
+    }
+
+    @Test
+    void stopsAtTheLimitAndResumesFromTheLastChange() {
+        givenServices(service(1L, T0, true), service(3L, T0.plusSeconds(2), true));
+        givenTombstones(tombstone(2L, T0.plusSeconds(1)));
+
+        CatalogChangesDto page = catalogService.findChanges(ChangeCursor.START, 2);
+
+        assertThat(page.getChanges()).extracting(ServiceChangeDto::getServiceId).containsExactly(1L, 2L);
+        assertThat(page.isHasMore()).isTrue();
+        ChangeCursor next = ChangeCursor.decode(page.getNextCursor());
+        assertThat(next.getChangedAt()).isEqualTo(T0.plusSeconds(1));
+        assertThat(next.getServiceId()).isEqualTo(2L);
+    }
+
+    @Test
+    void emptyPageKeepsTheCursor() {
+        givenServices();
+        givenTombstones();
+        ChangeCursor since = new ChangeCursor(T0, 7L);
+
+        CatalogChangesDto page = catalogService.findChanges(since, 10);
+
+        assertThat(page.getChanges()).isEmpty();
+        assertThat(page.isHasMore()).isFalse();
+        assertThat(page.getNextCursor()).isEqualTo(since.encode());
+    }
+
+    @Test
+    void cursorRoundTripsToTheMicrosecond() {
+        ChangeCursor cursor = ChangeCursor.decode(new ChangeCursor(T0, 42L).encode());
+
+        assertThat(cursor.getChangedAt()).isEqualTo(T0);
+        assertThat(cursor.getServiceId()).isEqualTo(42L);
+        assertThat(ChangeCursor.decode(ChangeCursor.START.encode()).getChangedAt())
+                .isEqualTo(ChangeCursor.START.getChangedAt());
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertThatThrownBy(() -> ChangeCursor.decode("not a cursor")).isInstanceOf(BadRequestException.class);
+        // base64url of "v1:1:1", a listing cursor rather than a change cursor
+        assertThatThrownBy(() -> ChangeCursor.decode("djE6MTox")).isInstanceOf(BadRequestException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenServices(ServiceDto... services) {
+        when(serviceRepository.findDtos(any(Specification.class), any(Sort.class), anyInt())).thenReturn(List.of(services));
+    }
+
+    private void givenTombstones(ServiceTombstone... tombstones) {
+        when(tombstoneRepository.findAfter(any(), any(), any(), any(Pageable.class))).thenReturn(List.of(tombstones));
+    }
+
+    private static ServiceDto service(Long id, LocalDateTime updatedAt, boolean available) {
+        return ServiceDto.builder().id(id).updatedAt(updatedAt).isAvailable(available).build();
+    }
+
+    private static ServiceTombstone tombstone(Long serviceId, LocalDateTime deletedAt) {
+        return ServiceTombstone.builder().serviceId(serviceId).deletedAt(deletedAt).build();
+    }
+}